@@ -2,12 +2,26 @@ package com.recipes;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @SpringBootApplication
+@EnableScheduling
 public class ShareMyRecipeApiPlatformApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(ShareMyRecipeApiPlatformApplication.class, args);
 	}
 
+	// Chef lists carry follower counts that change with every follow, so their ETag is a hash of the
+	// rendered body: a 304 still runs the query but saves sending the page again
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> chefListEtagFilter() {
+		FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+		registration.addUrlPatterns("/api/chefs/following", "/api/chefs/followers", "/api/chefs/popular");
+		return registration;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.recipes;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// With app.threads.virtual.enabled, Tomcat runs every request (security filter chain included) on
+// its own virtual thread, and asynchronous MVC work such as streamed exports runs on virtual threads
+// too. Virtual threads need Java 21+; the build targets Java 17, so the factory is looked up
+// reflectively and older JVMs keep Tomcat's platform thread pool.
+// The outbox relay stays on its scheduler thread: it waits for publisher confirms inside synchronized
+// code of the RabbitMQ client, which would pin a carrier thread for the whole wait.
+@Configuration
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class VirtualThreadConfig implements WebMvcConfigurer {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Value("${app.threads.virtual.enabled:false}")
+    boolean enabled = false;
+
+    ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = enabled ? newVirtualThreadExecutor() : null;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (executor != null) {
+                protocolHandler.setExecutor(executor);
+            }
+        };
+    }
+
+    // Ordered after Spring Boot's own MVC configuration, which sets the application task executor
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (executor != null) {
+            configurer.setTaskExecutor(new TaskExecutorAdapter(executor));
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() looked up reflectively, as the build targets Java 17
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            logger.info("Handling requests on virtual threads");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads need Java 21 or later; handling requests on platform threads");
+            return null;
+        }
+    }
+}
\ No newline at end of file
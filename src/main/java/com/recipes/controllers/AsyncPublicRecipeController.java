@@ -0,0 +1,146 @@
+package com.recipes.controllers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import com.recipes.payload.response.MessageResponse;
+import com.recipes.services.RecipeListingVersion;
+
+// Asynchronous variant of GET /api/public/recipes for read-heavy clients. The servlet thread only
+// checks the parameters and answers conditional requests, once; the listing (queries, search index, response cache) runs on a bounded
+// pool of app.listing.async.threads threads and the servlet thread goes back to Tomcat meanwhile, so
+// many slow requests in flight do not hold request threads. A full queue is answered with 503 at
+// once, and a listing that takes longer than app.listing.async.timeout-ms with 503 as well; its task is
+// then cancelled, so work nobody waits for does not keep the pool busy. The queue is sized to drain
+// within the timeout.
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/public/async")
+public class AsyncPublicRecipeController {
+
+    @Autowired
+    RecipeController recipeController;
+
+    @Autowired
+    RecipeListingVersion listingVersion;
+
+    @Value("${app.listing.async.threads:16}")
+    int threads = 16;
+
+    @Value("${app.listing.async.queue-capacity:1000}")
+    int queueCapacity = 1000;
+
+    @Value("${app.listing.async.timeout-ms:10000}")
+    long timeoutMs = 10000;
+
+    private ThreadPoolExecutor pool;
+
+    ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger count = new AtomicInteger();
+        pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "recipe-listing-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // The listing tells anonymous callers apart by their security context
+        executor = new DelegatingSecurityContextExecutorService(pool);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    @GetMapping("/recipes")
+    public CompletableFuture<ResponseEntity<?>> getPublicRecipes(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String published_from,
+            @RequestParam(required = false) String published_to,
+            @RequestParam(required = false) String chef_id,
+            @RequestParam(required = false) String chef_handle,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int page_size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String with_total,
+            WebRequest webRequest) {
+
+        // 400s and 304s need no query, so they are answered on the servlet thread, malformed
+        // parameters first
+        ResponseEntity<?> invalid = RecipeController.invalidListingParameters(published_from, published_to,
+                chef_id, chef_handle, cursor, with_total);
+        if (invalid != null) {
+            return CompletableFuture.completedFuture(invalid);
+        }
+        if (webRequest.checkNotModified(listingVersion.etag())) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                // Already answered (timed out) while it waited in the queue
+                if (response.isDone()) {
+                    return;
+                }
+                try {
+                    response.complete(recipeController.publicRecipes(q, published_from, published_to,
+                            chef_id, chef_handle, page, page_size, cursor, with_total));
+                } catch (Throwable error) {
+                    response.completeExceptionally(error);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(unavailable("Too many listing requests in progress. Try again later."));
+        }
+
+        return response
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    if (error instanceof TimeoutException || error.getCause() instanceof TimeoutException) {
+                        cancel(task);
+                        return unavailable("Listing took too long. Try again later.");
+                    }
+                    throw error instanceof RuntimeException runtime ? runtime : new IllegalStateException(error);
+                });
+    }
+
+    // Helper method to stop a listing nobody waits for: a queued task leaves the queue, a running one is interrupted
+    private void cancel(Future<?> task) {
+        if (task.cancel(true) && task instanceof Runnable queued) {
+            pool.remove(queued);
+        }
+    }
+
+    // Number of listings waiting for a thread
+    int queued() {
+        return pool.getQueue().size();
+    }
+
+    // Helper method to build a 503 response
+    private static ResponseEntity<?> unavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new MessageResponse(message));
+    }
+}
\ No newline at end of file
@@ -8,7 +8,9 @@ import java.util.stream.Collectors;
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -27,6 +29,7 @@ import com.recipes.payload.request.SignupRequest;
 import com.recipes.payload.response.JwtResponse;
 import com.recipes.payload.response.MessageResponse;
 import com.recipes.repositories.ChefRepository;
+import com.recipes.security.BoundedPasswordEncoder;
 import com.recipes.security.JwtUtils;
 import com.recipes.security.UserDetailsImpl;
 
@@ -48,8 +51,13 @@ public class AuthController {
 
     @PostMapping("/signin")
     public ResponseEntity<?> authenticateChef(@Valid @RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+        } catch (BoundedPasswordEncoder.RejectedException e) {
+            return passwordHashingUnavailable();
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtUtils.generateJwtToken(authentication);
@@ -80,14 +88,43 @@ public class AuthController {
                     .body(new MessageResponse("Error: Handle is already taken!"));
         }
 
+        String encodedPassword;
+        try {
+            encodedPassword = encoder.encode(signUpRequest.getPassword());
+        } catch (BoundedPasswordEncoder.RejectedException e) {
+            return passwordHashingUnavailable();
+        }
+
         // Create new chef's account
         Chef chef = new Chef(signUpRequest.getHandle(),
                 signUpRequest.getHandle(),
                 signUpRequest.getEmail(),
-                encoder.encode(signUpRequest.getPassword()));
+                encodedPassword);
 
         chefRepository.save(chef);
 
         return ResponseEntity.ok(new MessageResponse("Chef registered successfully!"));
     }
+
+    // Revoke every token issued to the current chef, including the one used for this request
+    @PostMapping("/revoke")
+    @PreAuthorize("hasRole('CHEF')")
+    public ResponseEntity<?> revokeTokens() {
+        UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Chef chef = chefRepository.findCurrentById(userDetails.getId())
+                .orElseThrow(() -> new RuntimeException("Chef not found"));
+
+        chef.setTokenVersion(chef.getTokenVersion() + 1);
+        chefRepository.save(chef);
+
+        return ResponseEntity.ok(new MessageResponse("Tokens revoked successfully!"));
+    }
+
+    // Helper method for sign-ins and sign-ups turned away while the password hashing queue is full
+    private ResponseEntity<?> passwordHashingUnavailable() {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(new MessageResponse("Error: Too many sign-in requests, try again shortly."));
+    }
 }
\ No newline at end of file
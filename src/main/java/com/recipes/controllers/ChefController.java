@@ -2,9 +2,11 @@ package com.recipes.controllers;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -16,47 +18,50 @@ import com.recipes.payload.response.ChefResponse;
 import com.recipes.payload.response.MessageResponse;
 import com.recipes.repositories.ChefRepository;
 import com.recipes.security.UserDetailsImpl;
+import com.recipes.services.FollowService;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
 @RequestMapping("/api/chefs")
 public class ChefController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     ChefRepository chefRepository;
 
+    @Autowired
+    FollowService followService;
+
+
     // Follow a chef
     @PostMapping("/{id}/follow")
     @PreAuthorize("hasRole('CHEF')")
     public ResponseEntity<?> followChef(@PathVariable UUID id) {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         
-        // Get the current chef (follower)
-        Chef follower = chefRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Current chef not found"));
-        
-        // Get the chef to follow
-        Chef chefToFollow = chefRepository.findById(id)
+        // Get the handle of the chef to follow
+        String handle = chefRepository.findHandleById(id)
                 .orElseThrow(() -> new RuntimeException("Chef to follow not found"));
         
         // Prevent self-following
-        if (follower.getId().equals(chefToFollow.getId())) {
+        if (userDetails.getId().equals(id)) {
             return ResponseEntity.badRequest().body(new MessageResponse("You cannot follow yourself"));
         }
         
-        // Check if already following
-        if (follower.getFollowing().contains(chefToFollow)) {
-            return ResponseEntity.badRequest().body(new MessageResponse("You are already following this chef"));
+        // Add the follow relationship; a concurrent duplicate follow hits the unique constraint
+        boolean followed;
+        try {
+            followed = followService.follow(userDetails.getId(), id);
+        } catch (DataIntegrityViolationException e) {
+            followed = false;
         }
         
-        // Add the follow relationship
-        follower.getFollowing().add(chefToFollow);
-        chefToFollow.getFollowers().add(follower);
-        
-        chefRepository.save(follower);
-        chefRepository.save(chefToFollow);
+        if (!followed) {
+            return ResponseEntity.badRequest().body(new MessageResponse("You are already following this chef"));
+        }
         
-        return ResponseEntity.ok(new MessageResponse("Successfully followed chef: " + chefToFollow.getHandle()));
+        return ResponseEntity.ok(new MessageResponse("Successfully followed chef: " + handle));
     }
 
     // Unfollow a chef
@@ -65,59 +70,99 @@ public class ChefController {
     public ResponseEntity<?> unfollowChef(@PathVariable UUID id) {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         
-        // Get the current chef (follower)
-        Chef follower = chefRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Current chef not found"));
-        
-        // Get the chef to unfollow
-        Chef chefToUnfollow = chefRepository.findById(id)
+        // Get the handle of the chef to unfollow
+        String handle = chefRepository.findHandleById(id)
                 .orElseThrow(() -> new RuntimeException("Chef to unfollow not found"));
         
-        // Check if not following
-        if (!follower.getFollowing().contains(chefToUnfollow)) {
+        // Remove the follow relationship
+        if (!followService.unfollow(userDetails.getId(), id)) {
             return ResponseEntity.badRequest().body(new MessageResponse("You are not following this chef"));
         }
         
-        // Remove the follow relationship
-        follower.getFollowing().remove(chefToUnfollow);
-        chefToUnfollow.getFollowers().remove(follower);
+        return ResponseEntity.ok(new MessageResponse("Successfully unfollowed chef: " + handle));
+    }
+
+    // Get a chef profile with follower, following and recipe counts
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('CHEF')")
+    public ResponseEntity<?> getChef(@PathVariable UUID id) {
+        Chef chef = chefRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Chef not found"));
         
-        chefRepository.save(follower);
-        chefRepository.save(chefToUnfollow);
+        return ResponseEntity.ok(convertToChefResponse(chef));
+    }
+
+    // Get the most followed chefs
+    @GetMapping("/popular")
+    @PreAuthorize("hasRole('CHEF')")
+    public ResponseEntity<?> getPopularChefs(@RequestParam(defaultValue = "20") int page_size) {
+        page_size = Math.max(1, Math.min(page_size, MAX_PAGE_SIZE));
         
-        return ResponseEntity.ok(new MessageResponse("Successfully unfollowed chef: " + chefToUnfollow.getHandle()));
+        return ResponseEntity.ok(chefRepository.findMostFollowed(PageRequest.of(0, page_size)));
     }
 
-    // Get followed chefs
+    // Get all followed chefs, ordered by handle
     @GetMapping("/following")
     @PreAuthorize("hasRole('CHEF')")
     public ResponseEntity<?> getFollowingChefs() {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         
-        Chef chef = chefRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Chef not found"));
+        return ResponseEntity.ok(chefRepository.findFollowing(userDetails.getId(), Pageable.unpaged()));
+    }
+
+    // Get followed chefs a page at a time, ordered by handle; pass the nextCursor of a page as cursor for the next one
+    @GetMapping("/following/page")
+    @PreAuthorize("hasRole('CHEF')")
+    public ResponseEntity<?> getFollowingChefsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int page_size) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         
-        List<ChefResponse> following = chef.getFollowing().stream()
-                .map(this::convertToChefResponse)
-                .collect(Collectors.toList());
+        page_size = Math.max(1, Math.min(page_size, MAX_PAGE_SIZE));
         
-        return ResponseEntity.ok(following);
+        // One extra row tells whether there is a next page
+        Pageable limit = PageRequest.of(0, page_size + 1);
+        List<ChefResponse> following = cursor == null
+                ? chefRepository.findFollowing(userDetails.getId(), limit)
+                : chefRepository.findFollowingAfter(userDetails.getId(), cursor, limit);
+        
+        return ResponseEntity.ok(toPage(following, page_size));
     }
 
-    // Get followers
+    // Get all followers, ordered by handle
     @GetMapping("/followers")
     @PreAuthorize("hasRole('CHEF')")
     public ResponseEntity<?> getFollowers() {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         
-        Chef chef = chefRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Chef not found"));
+        return ResponseEntity.ok(chefRepository.findFollowers(userDetails.getId(), Pageable.unpaged()));
+    }
+
+    // Get followers a page at a time, ordered by handle; pass the nextCursor of a page as cursor for the next one
+    @GetMapping("/followers/page")
+    @PreAuthorize("hasRole('CHEF')")
+    public ResponseEntity<?> getFollowersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int page_size) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         
-        List<ChefResponse> followers = chef.getFollowers().stream()
-                .map(this::convertToChefResponse)
-                .collect(Collectors.toList());
+        page_size = Math.max(1, Math.min(page_size, MAX_PAGE_SIZE));
         
-        return ResponseEntity.ok(followers);
+        Pageable limit = PageRequest.of(0, page_size + 1);
+        List<ChefResponse> followers = cursor == null
+                ? chefRepository.findFollowers(userDetails.getId(), limit)
+                : chefRepository.findFollowersAfter(userDetails.getId(), cursor, limit);
+        
+        return ResponseEntity.ok(toPage(followers, page_size));
+    }
+
+    // Helper method to cut the extra row off a keyset page; the last handle is the next cursor
+    private PageResponse<ChefResponse> toPage(List<ChefResponse> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new PageResponse<>(rows, pageSize, null);
+        }
+        List<ChefResponse> content = rows.subList(0, pageSize);
+        return new PageResponse<>(content, pageSize, content.get(pageSize - 1).getHandle());
     }
 
     // Helper method to convert Chef entity to ChefResponse DTO
@@ -129,7 +174,10 @@ public class ChefController {
                 chef.getEmail(),
                 chef.isVerified(),
                 chef.getCreatedAt(),
-                chef.getUpdatedAt()
+                chef.getUpdatedAt(),
+                chef.getFollowerCount(),
+                chef.getFollowingCount(),
+                chef.getRecipeCount()
         );
     }
 }
\ No newline at end of file
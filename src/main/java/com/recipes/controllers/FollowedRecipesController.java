@@ -4,26 +4,34 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import com.recipes.entities.Chef;
 import com.recipes.entities.Recipe;
 import com.recipes.payload.response.MessageResponse;
-import com.recipes.payload.response.RecipeResponse;
+import com.recipes.repositories.RecipeListingFilter;
 import com.recipes.repositories.ChefRepository;
 import com.recipes.repositories.RecipeRepository;
 import com.recipes.security.UserDetailsImpl;
+import com.recipes.services.FollowGraph;
+import com.recipes.services.PageCursor;
+import com.recipes.services.RecipeListingService;
+import com.recipes.services.RecipeListingVersion;
+import com.recipes.services.RecipeListingService.TotalMode;
+import com.recipes.services.RecipeResponseAssembler;
+import com.recipes.services.ResponseFragmentCache.RecipeFragment;
+import com.recipes.services.TimelineService;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -36,6 +44,21 @@ public class FollowedRecipesController {
     @Autowired
     ChefRepository chefRepository;
 
+    @Autowired
+    RecipeListingService recipeListingService;
+
+    @Autowired
+    RecipeResponseAssembler recipeResponseAssembler;
+
+    @Autowired
+    TimelineService timelineService;
+
+    @Autowired
+    FollowGraph followGraph;
+
+    @Autowired
+    RecipeListingVersion listingVersion;
+
     // Get recipes from followed chefs with filters
     @GetMapping
     @PreAuthorize("hasRole('CHEF')")
@@ -44,29 +67,57 @@ public class FollowedRecipesController {
             @RequestParam(required = false) String published_from,
             @RequestParam(required = false) String published_to,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int page_size) {
+            @RequestParam(defaultValue = "10") int page_size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String with_total,
+            WebRequest webRequest) {
 
         // Validate page size
         if (page_size > 50) {
             page_size = 50;
         }
 
+        TotalMode totalMode = TotalMode.parse(with_total);
+        if (totalMode == null) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Invalid with_total. Use false, exact or estimate."));
+        }
+
+        // Parse cursor if provided; it takes precedence over page
+        PageCursor after = null;
+        if (cursor != null) {
+            after = PageCursor.decode(cursor);
+            if (after == null) {
+                return ResponseEntity.badRequest().body(new MessageResponse("Invalid cursor."));
+            }
+        }
+
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        Chef currentChef = chefRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Chef not found"));
+        UUID currentChefId = userDetails.getId();
+
+        // Get IDs of followed chefs, from the follow graph when it is loaded
+        List<UUID> followedChefIds = followGraph.isReady()
+                ? followGraph.getFollowingIds(currentChefId)
+                : chefRepository.findFollowingIds(currentChefId);
 
-        // Get IDs of followed chefs
-        List<UUID> followedChefIds = currentChef.getFollowing().stream()
-                .map(Chef::getId)
-                .collect(Collectors.toList());
+        // Without a keyword, read the precomputed home timeline instead of querying every followed chef
+        boolean fromTimeline = (q == null || q.isEmpty()) && timelineService.isEnabled();
+
+        // The listing only changes with the recipes of the followed chefs or the set of followed chefs.
+        // Timeline rows are pushed by the worker some time after the write, so they get no ETag.
+        if (!fromTimeline && webRequest.checkNotModified(
+                listingVersion.etag(currentChefId, Set.copyOf(followedChefIds)))) {
+            return null;
+        }
 
         // If no followed chefs, return empty result
         if (followedChefIds.isEmpty()) {
+            if (after != null) {
+                return ResponseEntity.ok(new PageResponse<>(new ArrayList<>(), page_size, null));
+            }
             return ResponseEntity.ok(new PageResponse<>(new ArrayList<>(), page, page_size, 0, 0));
         }
 
-        Pageable pageable = PageRequest.of(page, page_size, Sort.by("createdAt").descending());
-        Page<Recipe> recipePage;
+        Pageable pageable = PageRequest.of(page, page_size, RecipeListingFilter.NEWEST_FIRST);
 
         // Parse dates if provided
         LocalDateTime fromDate = null;
@@ -88,70 +139,48 @@ public class FollowedRecipesController {
             }
         }
 
-        // Build query based on parameters
-        if (q != null && !q.isEmpty()) {
-            if (fromDate != null || toDate != null) {
-                if (fromDate == null) fromDate = LocalDateTime.MIN;
-                if (toDate == null) toDate = LocalDateTime.MAX;
-
-                recipePage = recipeRepository.findByStatusAndKeywordAndAuthorInAndCreatedAtBetween(
-                    Recipe.RecipeStatus.PUBLISHED, q, followedChefIds, fromDate, toDate, pageable);
-            } else {
-                recipePage = recipeRepository.findByStatusAndKeywordAndAuthorIn(
-                    Recipe.RecipeStatus.PUBLISHED, q, followedChefIds, pageable);
-            }
-        } else if (fromDate != null || toDate != null) {
-            if (fromDate == null) fromDate = LocalDateTime.MIN;
-            if (toDate == null) toDate = LocalDateTime.MAX;
-
-            recipePage = recipeRepository.findByStatusAndAuthorInAndCreatedAtBetween(
-                Recipe.RecipeStatus.PUBLISHED, followedChefIds, fromDate, toDate, pageable);
-        } else {
-            recipePage = recipeRepository.findByStatusAndAuthorIn(
-                Recipe.RecipeStatus.PUBLISHED, followedChefIds, pageable);
+        // Seek past the cursor instead of using OFFSET
+        if (after != null) {
+            Slice<Recipe> recipeSlice = fromTimeline
+                    ? timelineService.findAfter(currentChefId, followedChefIds, fromDate, toDate, after, page_size)
+                    : recipeListingService.findPublishedAfter(after, q, followedChefIds, fromDate, toDate, page_size);
+
+            List<Recipe> content = recipeSlice.getContent();
+            List<RecipeFragment> recipes = recipeResponseAssembler.toFragments(content);
+            String nextCursor = recipeSlice.hasNext() ? PageCursor.after(content.get(content.size() - 1)).encode() : null;
+
+            return ResponseEntity.ok(new PageResponse<>(recipes, page_size, nextCursor));
         }
 
+        // Build query based on parameters; the COUNT query only runs for with_total=exact
+        Slice<Recipe> recipeSlice = fromTimeline
+                ? timelineService.find(currentChefId, followedChefIds, fromDate, toDate, pageable, totalMode == TotalMode.EXACT)
+                : recipeListingService.findPublished(q, followedChefIds, fromDate, toDate, pageable, totalMode == TotalMode.EXACT);
+
         // Convert to DTOs
-        List<RecipeResponse> recipes = recipePage.getContent().stream()
-                .map(this::convertToRecipeResponse)
-                .collect(Collectors.toList());
+        List<RecipeFragment> recipes = recipeResponseAssembler.toFragments(recipeSlice.getContent());
+
+        String nextCursor = recipeSlice.hasNext()
+                ? PageCursor.after(recipeSlice.getContent().get(recipeSlice.getNumberOfElements() - 1)).encode()
+                : null;
 
-        PageResponse<RecipeResponse> response = new PageResponse<>(
+        PageResponse<RecipeFragment> response = new PageResponse<>(
                 recipes,
-                recipePage.getNumber(),
-                recipePage.getSize(),
-                recipePage.getTotalElements(),
-                recipePage.getTotalPages());
+                recipeSlice.getNumber(),
+                recipeSlice.getSize(),
+                nextCursor);
+
+        if (recipeSlice instanceof Page) {
+            Page<Recipe> recipePage = (Page<Recipe>) recipeSlice;
+            response.setTotalElements(recipePage.getTotalElements());
+            response.setTotalPages(recipePage.getTotalPages());
+        } else if (totalMode == TotalMode.ESTIMATE) {
+            long total = recipeListingService.estimatePublished(q, followedChefIds, fromDate, toDate);
+            response.setTotalElements(total);
+            response.setTotalPages((int) Math.ceil((double) total / page_size));
+            response.setTotalEstimated(true);
+        }
 
         return ResponseEntity.ok(response);
     }
-
-    // Helper method to convert Recipe entity to RecipeResponse DTO
-    private RecipeResponse convertToRecipeResponse(Recipe recipe) {
-        Chef author = recipe.getAuthor();
-        com.recipes.payload.response.ChefResponse chefResponse = new com.recipes.payload.response.ChefResponse(
-                author.getId(),
-                author.getHandle(),
-                author.getName(),
-                author.getEmail(),
-                author.isVerified(),
-                author.getCreatedAt(),
-                author.getUpdatedAt()
-        );
-
-        return new RecipeResponse(
-                recipe.getId(),
-                recipe.getTitle(),
-                recipe.getSummary(),
-                recipe.getIngredients(),
-                recipe.getSteps(),
-                recipe.getLabels(),
-                recipe.getImageUrls(),
-                recipe.getStatus().name(),
-                recipe.getPublishedAt(),
-                chefResponse,
-                recipe.getCreatedAt(),
-                recipe.getUpdatedAt()
-        );
-    }
 }
\ No newline at end of file
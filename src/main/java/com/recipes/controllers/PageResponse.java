@@ -2,12 +2,17 @@ package com.recipes.controllers;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
     private List<T> content;
-    private int page;
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
+    private String nextCursor;
+    private Boolean totalEstimated;
 
     public PageResponse() {}
 
@@ -19,6 +24,26 @@ public class PageResponse<T> {
         this.totalPages = totalPages;
     }
 
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages, String nextCursor) {
+        this(content, page, size, totalElements, totalPages);
+        this.nextCursor = nextCursor;
+    }
+
+    // Page without totals; they are filled in separately when requested
+    public PageResponse(List<T> content, int page, int size, String nextCursor) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    // Cursor pages have no page number or totals, only the cursor of the next page (null on the last page)
+    public PageResponse(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
     // Getters and setters
     public List<T> getContent() {
         return content;
@@ -28,11 +53,11 @@ public class PageResponse<T> {
         this.content = content;
     }
 
-    public int getPage() {
+    public Integer getPage() {
         return page;
     }
 
-    public void setPage(int page) {
+    public void setPage(Integer page) {
         this.page = page;
     }
 
@@ -44,19 +69,35 @@ public class PageResponse<T> {
         this.size = size;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public void setTotalElements(long totalElements) {
+    public void setTotalElements(Long totalElements) {
         this.totalElements = totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
 
-    public void setTotalPages(int totalPages) {
+    public void setTotalPages(Integer totalPages) {
         this.totalPages = totalPages;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getTotalEstimated() {
+        return totalEstimated;
+    }
+
+    public void setTotalEstimated(Boolean totalEstimated) {
+        this.totalEstimated = totalEstimated;
+    }
 }
\ No newline at end of file
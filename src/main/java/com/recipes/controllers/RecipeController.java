@@ -3,33 +3,69 @@ package com.recipes.controllers;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipes.entities.Chef;
 import com.recipes.entities.Recipe;
+import com.recipes.events.RecipeEvent;
+import com.recipes.payload.request.RecipeBulkRequest;
 import com.recipes.payload.request.RecipeRequest;
 import com.recipes.payload.response.ChefResponse;
 import com.recipes.payload.response.MessageResponse;
+import com.recipes.payload.response.RecipeBulkResponse;
 import com.recipes.payload.response.RecipeResponse;
+import com.recipes.repositories.RecipeListingFilter;
 import com.recipes.repositories.ChefRepository;
 import com.recipes.repositories.RecipeRepository;
 import com.recipes.security.UserDetailsImpl;
+import com.recipes.services.PageCursor;
+import com.recipes.services.PublicRecipeResponseCache;
+import com.recipes.services.RecipeBulkImporter;
+import com.recipes.services.RecipeExporter;
+import com.recipes.services.RecipeEventOutbox;
+import com.recipes.services.RecipeListingService;
+import com.recipes.services.RecipeListingVersion;
+import com.recipes.services.RecipeListingService.TotalMode;
+import com.recipes.services.RecipeResponseAssembler;
+import com.recipes.services.ResponseFragmentCache.RecipeFragment;
+import com.recipes.services.RecipeSearchIndex;
+import com.recipes.services.SecondLevelCache;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
@@ -43,7 +79,37 @@ public class RecipeController {
     ChefRepository chefRepository;
     
     @Autowired
-    RabbitTemplate rabbitTemplate;
+    RecipeEventOutbox recipeEventOutbox;
+
+    @Autowired
+    RecipeBulkImporter recipeBulkImporter;
+
+    @Autowired
+    SecondLevelCache secondLevelCache;
+
+    @Autowired
+    PublicRecipeResponseCache publicResponseCache;
+
+    @Autowired
+    RecipeListingVersion listingVersion;
+
+    @Autowired
+    RecipeExporter recipeExporter;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${app.recipes.bulk.max-recipes:1000}")
+    int maxBulkRecipes = 1000;
+
+    @Autowired
+    RecipeSearchIndex searchIndex;
+
+    @Autowired
+    RecipeListingService recipeListingService;
+
+    @Autowired
+    RecipeResponseAssembler recipeResponseAssembler;
 
     // Public endpoint to list recipes with filters
     @GetMapping("/public/recipes")
@@ -54,36 +120,129 @@ public class RecipeController {
             @RequestParam(required = false) String chef_id,
             @RequestParam(required = false) String chef_handle,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int page_size) {
+            @RequestParam(defaultValue = "10") int page_size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String with_total,
+            WebRequest webRequest) {
 
-        // Validate page size
-        if (page_size > 50) {
-            page_size = 50;
+        // Malformed parameters get 400 even when the client holds a current copy of some listing
+        ResponseEntity<?> invalid = invalidListingParameters(published_from, published_to, chef_id, chef_handle,
+                cursor, with_total);
+        if (invalid != null) {
+            return invalid;
+        }
+
+        // Answer 304 before any query when nothing was published, changed or deleted since the client's copy
+        if (webRequest.checkNotModified(listingVersion.etag())) {
+            return null;
+        }
+
+        return publicRecipes(q, published_from, published_to, chef_id, chef_handle, page, page_size, cursor, with_total);
+    }
+
+    // The listing behind GET /api/public/recipes once its parameters were checked and the conditional
+    // request answered; also run by the async variant on its pool, which has no request of its own
+    public ResponseEntity<?> publicRecipes(String q, String published_from, String published_to, String chef_id,
+                                           String chef_handle, int page, int page_size, String cursor,
+                                           String with_total) {
+        // Anonymous listings are served from already encoded JSON
+        if (!publicResponseCache.isEnabled() || !isAnonymous()) {
+            return listPublicRecipes(q, published_from, published_to, chef_id, chef_handle, page, page_size, cursor, with_total);
+        }
+
+        // Parameters that cannot change the response are normalized, so equivalent requests share an entry
+        List<Object> key = Arrays.asList(
+                q != null ? q.toLowerCase(Locale.ROOT) : null,
+                published_from,
+                published_to,
+                chef_id != null ? chef_id.toLowerCase(Locale.ROOT) : null,
+                chef_handle,
+                page,
+                Math.min(page_size, 50),
+                cursor,
+                with_total.toLowerCase(Locale.ROOT));
+        byte[] body = publicResponseCache.get(key, () -> {
+            ResponseEntity<?> response = listPublicRecipes(q, published_from, published_to, chef_id, chef_handle,
+                    page, page_size, cursor, with_total);
+            // Errors are not cached
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                return null;
+            }
+            try {
+                return objectMapper.writeValueAsBytes(response.getBody());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize recipe listing", e);
+            }
+        });
+        if (body == null) {
+            return listPublicRecipes(q, published_from, published_to, chef_id, chef_handle, page, page_size, cursor, with_total);
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // Helper method to check the listing parameters before anything else answers the request;
+    // returns the 400 response for the first malformed one, or null when all are valid
+    static ResponseEntity<?> invalidListingParameters(String published_from, String published_to, String chef_id,
+                                                      String chef_handle, String cursor, String with_total) {
+        if (TotalMode.parse(with_total) == null) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Invalid with_total. Use false, exact or estimate."));
+        }
+
+        if (cursor != null && PageCursor.decode(cursor) == null) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Invalid cursor."));
         }
 
-        Pageable pageable = PageRequest.of(page, page_size, Sort.by("createdAt").descending());
-        Page<Recipe> recipePage;
-        
-        // Parse dates if provided
-        LocalDateTime fromDate = null;
-        LocalDateTime toDate = null;
-        
         if (published_from != null) {
             try {
-                fromDate = LocalDateTime.parse(published_from, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                LocalDateTime.parse(published_from, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             } catch (Exception e) {
                 return ResponseEntity.badRequest().body(new MessageResponse("Invalid published_from date format. Use ISO format."));
             }
         }
-        
+
         if (published_to != null) {
             try {
-                toDate = LocalDateTime.parse(published_to, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                LocalDateTime.parse(published_to, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             } catch (Exception e) {
                 return ResponseEntity.badRequest().body(new MessageResponse("Invalid published_to date format. Use ISO format."));
             }
         }
-        
+
+        // chef_handle takes precedence, so chef_id is only parsed without it
+        if (chef_handle == null && chef_id != null) {
+            try {
+                UUID.fromString(chef_id);
+            } catch (Exception e) {
+                return ResponseEntity.badRequest().body(new MessageResponse("Invalid chef_id format."));
+            }
+        }
+
+        return null;
+    }
+
+    // Parameters were checked by invalidListingParameters
+    private ResponseEntity<?> listPublicRecipes(String q, String published_from, String published_to, String chef_id,
+                                                String chef_handle, int page, int page_size, String cursor,
+                                                String with_total) {
+        // Validate page size
+        if (page_size > 50) {
+            page_size = 50;
+        }
+
+        Pageable pageable = PageRequest.of(page, page_size, RecipeListingFilter.NEWEST_FIRST);
+
+        TotalMode totalMode = TotalMode.parse(with_total);
+
+        // A cursor takes precedence over page
+        PageCursor after = cursor != null ? PageCursor.decode(cursor) : null;
+
+        LocalDateTime fromDate = published_from != null
+                ? LocalDateTime.parse(published_from, DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                : null;
+        LocalDateTime toDate = published_to != null
+                ? LocalDateTime.parse(published_to, DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+                : null;
+
         // Get chef ID if handle is provided
         UUID chefId = null;
         if (chef_handle != null) {
@@ -92,62 +251,134 @@ public class RecipeController {
                 chefId = chefOpt.get().getId();
             } else {
                 // Return empty result if chef not found
+                if (after != null) {
+                    return ResponseEntity.ok(new PageResponse<>(new ArrayList<>(), page_size, null));
+                }
                 return ResponseEntity.ok(new PageResponse<>(new ArrayList<>(), page, page_size, 0, 0));
             }
         } else if (chef_id != null) {
-            try {
-                chefId = UUID.fromString(chef_id);
-            } catch (Exception e) {
-                return ResponseEntity.badRequest().body(new MessageResponse("Invalid chef_id format."));
-            }
+            chefId = UUID.fromString(chef_id);
         }
 
-        // Build query based on parameters
+        // Answer keyword searches from the in-memory index when it is available
         if (q != null && !q.isEmpty()) {
-            if (chefId != null) {
-                recipePage = recipeRepository.findByStatusAndKeywordAndAuthorIn(
-                    Recipe.RecipeStatus.PUBLISHED, q, List.of(chefId), pageable);
-            } else if (fromDate != null || toDate != null) {
-                if (fromDate == null) fromDate = LocalDateTime.MIN;
-                if (toDate == null) toDate = LocalDateTime.MAX;
-                
-                recipePage = recipeRepository.findByStatusAndKeywordAndAuthorInAndCreatedAtBetween(
-                    Recipe.RecipeStatus.PUBLISHED, q, new ArrayList<>(), fromDate, toDate, pageable);
-            } else {
-                recipePage = recipeRepository.findByStatusAndKeyword(
-                    Recipe.RecipeStatus.PUBLISHED, q, pageable);
+            int offset = after != null ? 0 : page * page_size;
+            RecipeSearchIndex.Hits hits = searchIndex.search(q, chefId != null ? List.of(chefId) : null,
+                    fromDate, toDate, after, offset, page_size);
+            if (hits != null) {
+                List<Recipe> found = findAllInOrder(hits.getIds());
+                List<RecipeFragment> recipes = recipeResponseAssembler.toFragments(found);
+                String nextCursor = offset + found.size() < hits.getTotal() && !found.isEmpty()
+                        ? PageCursor.after(found.get(found.size() - 1)).encode()
+                        : null;
+
+                if (after != null) {
+                    return ResponseEntity.ok(new PageResponse<>(recipes, page_size, nextCursor));
+                }
+                return ResponseEntity.ok(new PageResponse<>(
+                        recipes,
+                        page,
+                        page_size,
+                        hits.getTotal(),
+                        (int) Math.ceil((double) hits.getTotal() / page_size),
+                        nextCursor));
             }
-        } else if (chefId != null) {
-            recipePage = recipeRepository.findByStatusAndAuthorId(
-                Recipe.RecipeStatus.PUBLISHED, chefId, pageable);
-        } else if (fromDate != null || toDate != null) {
-            if (fromDate == null) fromDate = LocalDateTime.MIN;
-            if (toDate == null) toDate = LocalDateTime.MAX;
-            
-            recipePage = recipeRepository.findByStatusAndCreatedAtBetween(
-                Recipe.RecipeStatus.PUBLISHED, fromDate, toDate, pageable);
-        } else {
-            recipePage = recipeRepository.findByStatus(Recipe.RecipeStatus.PUBLISHED, pageable);
         }
 
+        // Seek past the cursor instead of using OFFSET
+        if (after != null) {
+            Slice<Recipe> recipeSlice = recipeListingService.findPublishedAfter(after, q,
+                    chefId != null ? List.of(chefId) : null, fromDate, toDate, page_size);
+            return ResponseEntity.ok(toCursorPage(recipeSlice));
+        }
+
+        // Build query based on parameters; the COUNT query only runs for with_total=exact
+        List<UUID> authorIds = chefId != null ? List.of(chefId) : null;
+        Slice<Recipe> recipeSlice = recipeListingService.findPublished(q, authorIds, fromDate, toDate, pageable,
+                totalMode == TotalMode.EXACT);
+
         // Convert to DTOs
-        List<RecipeResponse> recipes = recipePage.getContent().stream()
-                .map(this::convertToRecipeResponse)
-                .collect(Collectors.toList());
+        List<RecipeFragment> recipes = recipeResponseAssembler.toFragments(recipeSlice.getContent());
 
-        PageResponse<RecipeResponse> response = new PageResponse<>(
+        String nextCursor = recipeSlice.hasNext()
+                ? PageCursor.after(recipeSlice.getContent().get(recipeSlice.getNumberOfElements() - 1)).encode()
+                : null;
+
+        PageResponse<RecipeFragment> response = new PageResponse<>(
                 recipes,
-                recipePage.getNumber(),
-                recipePage.getSize(),
-                recipePage.getTotalElements(),
-                recipePage.getTotalPages());
+                recipeSlice.getNumber(),
+                recipeSlice.getSize(),
+                nextCursor);
+
+        if (recipeSlice instanceof Page) {
+            Page<Recipe> recipePage = (Page<Recipe>) recipeSlice;
+            response.setTotalElements(recipePage.getTotalElements());
+            response.setTotalPages(recipePage.getTotalPages());
+        } else if (totalMode == TotalMode.ESTIMATE) {
+            long total = recipeListingService.estimatePublished(q, authorIds, fromDate, toDate);
+            response.setTotalElements(total);
+            response.setTotalPages((int) Math.ceil((double) total / page_size));
+            response.setTotalEstimated(true);
+        }
 
         return ResponseEntity.ok(response);
     }
 
+    // Export every published recipe as newline-delimited JSON, gzip-compressed when the client accepts it
+    @GetMapping("/public/recipes/export")
+    public ResponseEntity<?> exportRecipes(
+            @RequestParam(required = false) String updated_since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        LocalDateTime updatedSince = null;
+        if (updated_since != null) {
+            try {
+                updatedSince = LocalDateTime.parse(updated_since, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            } catch (Exception e) {
+                return ResponseEntity.badRequest().body(new MessageResponse("Invalid updated_since date format. Use ISO format."));
+            }
+        }
+
+        RecipeExporter.Permit permit = recipeExporter.tryStart();
+        if (permit == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new MessageResponse("Too many exports in progress, try again later"));
+        }
+        // Also released when the async request ends without running the body (client gone, timeout, error)
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(RecipeExporter.class.getName(),
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest completed, Callable<T> task) {
+                        permit.close();
+                    }
+                });
+
+        LocalDateTime since = updatedSince;
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                    recipeExporter.export(since, compressed);
+                    compressed.finish();
+                } else {
+                    recipeExporter.export(since, out);
+                }
+            } finally {
+                permit.close();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     // Create a new recipe
     @PostMapping("/recipes")
     @PreAuthorize("hasRole('CHEF')")
+    @Transactional
     public ResponseEntity<?> createRecipe(@Valid @RequestBody RecipeRequest recipeRequest) {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Chef author = chefRepository.findById(userDetails.getId())
@@ -160,20 +391,40 @@ public class RecipeController {
         recipe.setLabels(recipeRequest.getLabels() != null ? recipeRequest.getLabels() : new ArrayList<>());
         recipe.setStatus(Recipe.RecipeStatus.DRAFT);
 
-        // Send to queue for async processing
-        rabbitTemplate.convertAndSend("recipe.created", recipe);
-        
         recipeRepository.save(recipe);
 
+        // Queue for async processing; published by the outbox relay after commit
+        recipeEventOutbox.record("recipe.created", toRecipeEvent(recipe, List.of(
+                RecipeEvent.TITLE, RecipeEvent.SUMMARY, RecipeEvent.INGREDIENTS, RecipeEvent.STEPS, RecipeEvent.LABELS)));
+        searchIndex.index(recipe);
+
         return ResponseEntity.ok(convertToRecipeResponse(recipe));
     }
 
+    // Create many draft recipes in one request, e.g. when importing a collection from another site
+    @PostMapping("/recipes/bulk")
+    @PreAuthorize("hasRole('CHEF')")
+    public ResponseEntity<?> createRecipes(@Valid @RequestBody RecipeBulkRequest bulkRequest) {
+        if (bulkRequest.getRecipes().size() > maxBulkRecipes) {
+            return ResponseEntity.badRequest().body(new MessageResponse("At most " + maxBulkRecipes + " recipes can be imported per request"));
+        }
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (!chefRepository.existsById(userDetails.getId())) {
+            throw new RuntimeException("Chef not found");
+        }
+
+        List<UUID> ids = recipeBulkImporter.importRecipes(userDetails.getId(), bulkRequest.getRecipes());
+        return ResponseEntity.ok(new RecipeBulkResponse(ids));
+    }
+
     // Publish a recipe
     @PutMapping("/recipes/{id}/publish")
     @PreAuthorize("hasRole('CHEF')")
+    @Transactional
     public ResponseEntity<?> publishRecipe(@PathVariable UUID id) {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        Recipe recipe = recipeRepository.findById(id)
+        Recipe recipe = recipeRepository.findCurrentById(id)
                 .orElseThrow(() -> new RuntimeException("Recipe not found"));
 
         // Check if chef owns the recipe or is admin
@@ -182,13 +433,21 @@ public class RecipeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new MessageResponse("Not authorized to publish this recipe"));
         }
 
+        boolean wasPublished = recipe.getStatus() == Recipe.RecipeStatus.PUBLISHED;
         recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
         recipe.setPublishedAt(LocalDateTime.now());
-        
-        // Send to queue for async processing
-        rabbitTemplate.convertAndSend("recipe.published", recipe);
-        
-        recipeRepository.save(recipe);
+
+        // Flush so the event carries the new revision
+        recipeRepository.saveAndFlush(recipe);
+
+        // Queue for async processing; published by the outbox relay after commit
+        recipeEventOutbox.record("recipe.published", toRecipeEvent(recipe, List.of(RecipeEvent.STATUS)));
+        if (!wasPublished) {
+            chefRepository.addToRecipeCount(recipe.getAuthor().getId(), 1);
+            secondLevelCache.evictChefs(recipe.getAuthor().getId());
+        }
+        searchIndex.index(recipe);
+        listingVersion.changedAfterCommit();
 
         return ResponseEntity.ok(convertToRecipeResponse(recipe));
     }
@@ -196,9 +455,10 @@ public class RecipeController {
     // Update a recipe
     @PutMapping("/recipes/{id}")
     @PreAuthorize("hasRole('CHEF')")
+    @Transactional
     public ResponseEntity<?> updateRecipe(@PathVariable UUID id, @Valid @RequestBody RecipeRequest recipeRequest) {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        Recipe recipe = recipeRepository.findById(id)
+        Recipe recipe = recipeRepository.findCurrentById(id)
                 .orElseThrow(() -> new RuntimeException("Recipe not found"));
 
         // Check if chef owns the recipe or is admin
@@ -207,16 +467,29 @@ public class RecipeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new MessageResponse("Not authorized to update this recipe"));
         }
 
+        List<String> labels = recipeRequest.getLabels() != null ? recipeRequest.getLabels() : new ArrayList<>();
+        List<String> changedFields = new ArrayList<>();
+        addIfChanged(changedFields, RecipeEvent.TITLE, recipe.getTitle(), recipeRequest.getTitle());
+        addIfChanged(changedFields, RecipeEvent.SUMMARY, recipe.getSummary(), recipeRequest.getSummary());
+        addIfChanged(changedFields, RecipeEvent.INGREDIENTS, new ArrayList<>(recipe.getIngredients()), recipeRequest.getIngredients());
+        addIfChanged(changedFields, RecipeEvent.STEPS, new ArrayList<>(recipe.getSteps()), recipeRequest.getSteps());
+        addIfChanged(changedFields, RecipeEvent.LABELS, new ArrayList<>(recipe.getLabels()), labels);
+
         recipe.setTitle(recipeRequest.getTitle());
         recipe.setSummary(recipeRequest.getSummary());
         recipe.setIngredients(recipeRequest.getIngredients());
         recipe.setSteps(recipeRequest.getSteps());
-        recipe.setLabels(recipeRequest.getLabels() != null ? recipeRequest.getLabels() : new ArrayList<>());
-        
-        // Send to queue for async processing
-        rabbitTemplate.convertAndSend("recipe.updated", recipe);
-        
-        recipeRepository.save(recipe);
+        recipe.setLabels(labels);
+
+        // Flush so the event carries the new revision
+        recipeRepository.saveAndFlush(recipe);
+
+        // Queue for async processing; published by the outbox relay after commit
+        recipeEventOutbox.record("recipe.updated", toRecipeEvent(recipe, changedFields));
+        searchIndex.index(recipe);
+        if (recipe.getStatus() == Recipe.RecipeStatus.PUBLISHED) {
+            listingVersion.changedAfterCommit();
+        }
 
         return ResponseEntity.ok(convertToRecipeResponse(recipe));
     }
@@ -224,9 +497,10 @@ public class RecipeController {
     // Delete a recipe
     @DeleteMapping("/recipes/{id}")
     @PreAuthorize("hasRole('CHEF')")
+    @Transactional
     public ResponseEntity<?> deleteRecipe(@PathVariable UUID id) {
         UserDetailsImpl userDetails = (UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        Recipe recipe = recipeRepository.findById(id)
+        Recipe recipe = recipeRepository.findCurrentById(id)
                 .orElseThrow(() -> new RuntimeException("Recipe not found"));
 
         // Check if chef owns the recipe or is admin
@@ -235,14 +509,74 @@ public class RecipeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new MessageResponse("Not authorized to delete this recipe"));
         }
 
-        // Send to queue for async processing
-        rabbitTemplate.convertAndSend("recipe.deleted", recipe.getId());
-        
         recipeRepository.delete(recipe);
+        if (recipe.getStatus() == Recipe.RecipeStatus.PUBLISHED) {
+            chefRepository.addToRecipeCount(recipe.getAuthor().getId(), -1);
+            secondLevelCache.evictChefs(recipe.getAuthor().getId());
+        }
+
+        // Queue for async processing; published by the outbox relay after commit. The deletion
+        // follows the last update, so it takes the next revision
+        recipeEventOutbox.record("recipe.deleted", new RecipeEvent(recipe.getId(), recipe.getAuthor().getId(),
+                recipe.getRevision() + 1, new ArrayList<>()));
+        searchIndex.remove(recipe.getId());
+        if (recipe.getStatus() == Recipe.RecipeStatus.PUBLISHED) {
+            listingVersion.changedAfterCommit();
+        }
 
         return ResponseEntity.ok(new MessageResponse("Recipe deleted successfully"));
     }
 
+    // Another request changed the recipe between this one's read and its write; the client may retry
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> concurrentUpdate() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse("Recipe was changed by another request, try again"));
+    }
+
+    // Helper method to build the event for a recipe change; the entity version is the revision
+    private RecipeEvent toRecipeEvent(Recipe recipe, List<String> changedFields) {
+        return new RecipeEvent(
+                recipe.getId(),
+                recipe.getAuthor().getId(),
+                recipe.getRevision(),
+                changedFields);
+    }
+
+    // Helper method to tell whether the request carries no authenticated chef
+    private static boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken;
+    }
+
+    // Helper method to record a field name when its value changes
+    private static void addIfChanged(List<String> changedFields, String field, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changedFields.add(field);
+        }
+    }
+
+    // Helper method to convert a slice of recipes to a cursor page
+    private PageResponse<RecipeFragment> toCursorPage(Slice<Recipe> recipeSlice) {
+        List<Recipe> content = recipeSlice.getContent();
+        List<RecipeFragment> recipes = recipeResponseAssembler.toFragments(content);
+        String nextCursor = recipeSlice.hasNext() ? PageCursor.after(content.get(content.size() - 1)).encode() : null;
+
+        return new PageResponse<>(recipes, recipeSlice.getSize(), nextCursor);
+    }
+
+    // Helper method to load recipes by id, keeping the order of the given ids
+    private List<Recipe> findAllInOrder(List<UUID> ids) {
+        Map<UUID, Recipe> byId = new HashMap<>();
+        for (Recipe recipe : recipeRepository.findAllById(ids)) {
+            byId.put(recipe.getId(), recipe);
+        }
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     // Helper method to convert Recipe entity to RecipeResponse DTO
     private RecipeResponse convertToRecipeResponse(Recipe recipe) {
         Chef author = recipe.getAuthor();
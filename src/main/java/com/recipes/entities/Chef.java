@@ -3,16 +3,22 @@ package com.recipes.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import com.recipes.security.ChefChangeListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "chefs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "chefs", indexes = @Index(name = "idx_chefs_follower_count", columnList = "follower_count"))
+@EntityListeners(ChefChangeListener.class)
 public class Chef {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @NotBlank
@@ -32,6 +38,21 @@ public class Chef {
 
     private boolean verified = false;
 
+    // Bumped to revoke every token issued to the chef; tokens carry it as the tokenVersion claim
+    @Column(columnDefinition = "integer default 0 not null")
+    private int tokenVersion = 0;
+
+    // Counters maintained by single UPDATE statements on follow/unfollow and publish/delete, and
+    // repaired by the worker's reconciliation job. Entity saves never write them.
+    @Column(updatable = false, columnDefinition = "bigint default 0 not null")
+    private long followerCount = 0;
+
+    @Column(updatable = false, columnDefinition = "bigint default 0 not null")
+    private long followingCount = 0;
+
+    @Column(updatable = false, columnDefinition = "bigint default 0 not null")
+    private long recipeCount = 0;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -40,7 +61,9 @@ public class Chef {
     @JoinTable(
         name = "chef_followers",
         joinColumns = @JoinColumn(name = "chef_id"),
-        inverseJoinColumns = @JoinColumn(name = "follower_id")
+        inverseJoinColumns = @JoinColumn(name = "follower_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_chef_followers", columnNames = {"chef_id", "follower_id"}),
+        indexes = @Index(name = "idx_chef_followers_follower", columnList = "follower_id, chef_id")
     )
     private Set<Chef> followers = new HashSet<>();
 
@@ -122,6 +145,38 @@ public class Chef {
         this.verified = verified;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
+    public long getFollowerCount() {
+        return followerCount;
+    }
+
+    public void setFollowerCount(long followerCount) {
+        this.followerCount = followerCount;
+    }
+
+    public long getFollowingCount() {
+        return followingCount;
+    }
+
+    public void setFollowingCount(long followingCount) {
+        this.followingCount = followingCount;
+    }
+
+    public long getRecipeCount() {
+        return recipeCount;
+    }
+
+    public void setRecipeCount(long recipeCount) {
+        this.recipeCount = recipeCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
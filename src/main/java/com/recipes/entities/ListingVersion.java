@@ -0,0 +1,45 @@
+package com.recipes.entities;
+
+import jakarta.persistence.*;
+
+// Single row counting changes to the public recipe listings, shared by every API instance.
+// The epoch is chosen when the row is created, so versions of a recreated database never match old ETags.
+@Entity
+@Table(name = "listing_versions")
+public class ListingVersion {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private String epoch;
+
+    @Column(nullable = false)
+    private long version;
+
+    // Constructors
+    public ListingVersion() {}
+
+    public ListingVersion(String epoch) {
+        this.id = ID;
+        this.epoch = epoch;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public String getEpoch() {
+        return epoch;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
\ No newline at end of file
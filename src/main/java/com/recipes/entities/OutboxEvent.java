@@ -0,0 +1,124 @@
+package com.recipes.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+
+// Recipe event waiting to be published, written in the same transaction as the recipe change
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+    // Increasing ids keep events in the order they were written
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String routingKey;
+
+    // A long character column (text / longtext), not a LOB: PostgreSQL large objects cannot be read outside a transaction
+    @JdbcTypeCode(SqlTypes.LONG32VARCHAR)
+    @Column(nullable = false)
+    private String payload;
+
+    // The payload is a JSON array of events, published as one message each
+    @Column(columnDefinition = "boolean default false not null")
+    private boolean batch = false;
+
+    // Failed publish attempts; the relay retries with backoff and gives up after app.outbox.relay.max-attempts
+    @Column(columnDefinition = "integer default 0 not null")
+    private int attempts = 0;
+
+    // Not retried before this time; null means right away
+    private LocalDateTime nextAttemptAt;
+
+    // Gave up after too many failed attempts; kept for inspection and skipped by the relay
+    @Column(columnDefinition = "boolean default false not null")
+    private boolean deadLettered = false;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public OutboxEvent() {}
+
+    public OutboxEvent(String routingKey, String payload) {
+        this.routingKey = routingKey;
+        this.payload = payload;
+    }
+
+    public OutboxEvent(String routingKey, String payload, boolean batch) {
+        this(routingKey, payload);
+        this.batch = batch;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public void setRoutingKey(String routingKey) {
+        this.routingKey = routingKey;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public boolean isBatch() {
+        return batch;
+    }
+
+    public void setBatch(boolean batch) {
+        this.batch = batch;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public boolean isDeadLettered() {
+        return deadLettered;
+    }
+
+    public void setDeadLettered(boolean deadLettered) {
+        this.deadLettered = deadLettered;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
\ No newline at end of file
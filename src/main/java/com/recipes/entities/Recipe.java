@@ -1,16 +1,22 @@
 package com.recipes.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.ArrayList;
 import java.util.UUID;
 
 @Entity
-@Table(name = "recipes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// updated_at is read by the search index to catch up with writes made on other instances
+@Table(name = "recipes", indexes = @Index(name = "idx_recipes_updated_at", columnList = "updated_at"))
 public class Recipe {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -19,25 +25,16 @@ public class Recipe {
     @Column(length = 1000)
     private String summary;
 
-    @ElementCollection
-    @CollectionTable(name = "recipe_ingredients", joinColumns = @JoinColumn(name = "recipe_id"))
-    @Column(name = "ingredient")
-    private List<String> ingredients = new ArrayList<>();
+    // Ingredients, steps, labels and image URLs in one column, so a recipe is read and written as one row
+    @Convert(converter = RecipeContentConverter.class)
+    @Mutability(Immutability.class)
+    @Column(length = 100000)
+    private RecipeContent content = RecipeContent.EMPTY;
 
-    @ElementCollection
-    @CollectionTable(name = "recipe_steps", joinColumns = @JoinColumn(name = "recipe_id"))
-    @Column(name = "step")
-    private List<String> steps = new ArrayList<>();
-
-    @ElementCollection
-    @CollectionTable(name = "recipe_labels", joinColumns = @JoinColumn(name = "recipe_id"))
-    @Column(name = "label")
-    private List<String> labels = new ArrayList<>();
-
-    @ElementCollection
-    @CollectionTable(name = "recipe_images", joinColumns = @JoinColumn(name = "recipe_id"))
-    @Column(name = "image_url")
-    private List<String> imageUrls = new ArrayList<>();
+    // Search terms of the title, summary, ingredients and steps for keyword LIKE queries (see
+    // SearchText), kept in step with those fields
+    @Column(name = "search_text", length = 100000)
+    private String searchText = SearchText.of(List.of());
 
     @Enumerated(EnumType.STRING)
     private RecipeStatus status = RecipeStatus.DRAFT;
@@ -52,6 +49,11 @@ public class Recipe {
 
     private LocalDateTime updatedAt;
 
+    // Incremented by Hibernate on every update; recipe events carry it as their revision
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long revision;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -69,6 +71,7 @@ public class Recipe {
     public Recipe(String title, Chef author) {
         this.title = title;
         this.author = author;
+        refreshSearchText();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -93,6 +96,7 @@ public class Recipe {
 
     public void setTitle(String title) {
         this.title = title;
+        refreshSearchText();
     }
 
     public String getSummary() {
@@ -101,38 +105,56 @@ public class Recipe {
 
     public void setSummary(String summary) {
         this.summary = summary;
+        refreshSearchText();
     }
 
     public List<String> getIngredients() {
-        return ingredients;
+        return content.getIngredients();
     }
 
     public void setIngredients(List<String> ingredients) {
-        this.ingredients = ingredients;
+        setContent(content.withIngredients(ingredients));
     }
 
     public List<String> getSteps() {
-        return steps;
+        return content.getSteps();
     }
 
     public void setSteps(List<String> steps) {
-        this.steps = steps;
+        setContent(content.withSteps(steps));
     }
 
     public List<String> getLabels() {
-        return labels;
+        return content.getLabels();
     }
 
     public void setLabels(List<String> labels) {
-        this.labels = labels;
+        setContent(content.withLabels(labels));
     }
 
     public List<String> getImageUrls() {
-        return imageUrls;
+        return content.getImageUrls();
     }
 
     public void setImageUrls(List<String> imageUrls) {
-        this.imageUrls = imageUrls;
+        setContent(content.withImageUrls(imageUrls));
+    }
+
+    public RecipeContent getContent() {
+        return content;
+    }
+
+    private void setContent(RecipeContent content) {
+        this.content = content;
+        refreshSearchText();
+    }
+
+    private void refreshSearchText() {
+        this.searchText = SearchText.of(SearchText.fields(title, summary, content));
+    }
+
+    public String getSearchText() {
+        return searchText;
     }
 
     public RecipeStatus getStatus() {
@@ -167,6 +189,10 @@ public class Recipe {
         this.createdAt = createdAt;
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
@@ -0,0 +1,91 @@
+package com.recipes.entities;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// The list fields of a recipe, stored together in the recipes.content column as compact JSON:
+// {"i":[ingredients],"s":[steps],"l":[labels],"u":[image urls]}, empty lists omitted.
+// Immutable; Recipe replaces the whole value when a list changes.
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public final class RecipeContent {
+
+    public static final RecipeContent EMPTY = new RecipeContent(null, null, null, null);
+
+    @JsonProperty("i")
+    private final List<String> ingredients;
+
+    @JsonProperty("s")
+    private final List<String> steps;
+
+    @JsonProperty("l")
+    private final List<String> labels;
+
+    @JsonProperty("u")
+    private final List<String> imageUrls;
+
+    @JsonCreator
+    public RecipeContent(@JsonProperty("i") List<String> ingredients,
+                         @JsonProperty("s") List<String> steps,
+                         @JsonProperty("l") List<String> labels,
+                         @JsonProperty("u") List<String> imageUrls) {
+        this.ingredients = copy(ingredients);
+        this.steps = copy(steps);
+        this.labels = copy(labels);
+        this.imageUrls = copy(imageUrls);
+    }
+
+    public List<String> getIngredients() {
+        return ingredients;
+    }
+
+    public List<String> getSteps() {
+        return steps;
+    }
+
+    public List<String> getLabels() {
+        return labels;
+    }
+
+    public List<String> getImageUrls() {
+        return imageUrls;
+    }
+
+    // Ingredients and steps as plain text, one per line; what keyword queries match against
+    public RecipeContent withIngredients(List<String> ingredients) {
+        return new RecipeContent(ingredients, steps, labels, imageUrls);
+    }
+
+    public RecipeContent withSteps(List<String> steps) {
+        return new RecipeContent(ingredients, steps, labels, imageUrls);
+    }
+
+    public RecipeContent withLabels(List<String> labels) {
+        return new RecipeContent(ingredients, steps, labels, imageUrls);
+    }
+
+    public RecipeContent withImageUrls(List<String> imageUrls) {
+        return new RecipeContent(ingredients, steps, labels, imageUrls);
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values == null ? List.of() : List.copyOf(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RecipeContent that = (RecipeContent) o;
+        return ingredients.equals(that.ingredients) && steps.equals(that.steps)
+                && labels.equals(that.labels) && imageUrls.equals(that.imageUrls);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ingredients, steps, labels, imageUrls);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.recipes.entities;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Maps RecipeContent to and from its JSON column value; a null column reads as empty content
+@Converter
+public class RecipeContentConverter implements AttributeConverter<RecipeContent, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(RecipeContent content) {
+        try {
+            return MAPPER.writeValueAsString(content != null ? content : RecipeContent.EMPTY);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize recipe content", e);
+        }
+    }
+
+    @Override
+    public RecipeContent convertToEntityAttribute(String json) {
+        if (json == null || json.isEmpty()) {
+            return RecipeContent.EMPTY;
+        }
+        try {
+            return MAPPER.readValue(json, RecipeContent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot read recipe content", e);
+        }
+    }
+}
\ No newline at end of file
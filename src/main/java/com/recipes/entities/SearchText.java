@@ -0,0 +1,65 @@
+package com.recipes.entities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+// Terms keyword search matches: lower-cased runs of letters and digits of a recipe's title, summary,
+// ingredients and steps. A query matches a recipe when every query term is a prefix of one of its
+// terms. The in-memory search index and the recipes.search_text column (used by the SQL fallback)
+// are built from the same terms, so both answer a query the same way.
+public final class SearchText {
+
+    private SearchText() {}
+
+    // Texts of a recipe that keyword search looks at
+    public static List<String> fields(String title, String summary, RecipeContent content) {
+        List<String> texts = new ArrayList<>(2 + content.getIngredients().size() + content.getSteps().size());
+        texts.add(title);
+        texts.add(summary);
+        texts.addAll(content.getIngredients());
+        texts.addAll(content.getSteps());
+        return texts;
+    }
+
+    public static Set<String> terms(Collection<String> texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    // Column value: each term preceded by a space, so LIKE '% term%' finds terms starting with term.
+    // Always starts with a space, which tells it apart from values written in an older format.
+    public static String of(Collection<String> texts) {
+        StringBuilder text = new StringBuilder(" ");
+        for (String term : terms(texts)) {
+            if (text.length() > 1) {
+                text.append(' ');
+            }
+            text.append(term);
+        }
+        return text.toString();
+    }
+
+    // One LIKE pattern per query term, all of which must match; empty when the query has no terms.
+    // Terms hold only letters and digits, so they need no LIKE escaping.
+    public static List<String> likePatterns(String query) {
+        List<String> patterns = new ArrayList<>();
+        for (String term : terms(List.of(query))) {
+            patterns.add("% " + term + "%");
+        }
+        return patterns;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.recipes.entities;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+// One recipe in a follower's precomputed home timeline. Rows are pushed by the worker when a followed
+// chef publishes, backfilled on follow and removed on unfollow or recipe deletion.
+@Entity
+@Table(name = "chef_timeline", indexes = {
+    @Index(name = "idx_chef_timeline_follower_created", columnList = "follower_id, created_at, recipe_id"),
+    @Index(name = "idx_chef_timeline_recipe", columnList = "recipe_id")
+})
+@IdClass(TimelineEntry.Key.class)
+public class TimelineEntry {
+    @Id
+    @Column(name = "follower_id")
+    private UUID followerId;
+
+    @Id
+    @Column(name = "recipe_id")
+    private UUID recipeId;
+
+    @Column(name = "author_id", nullable = false)
+    private UUID authorId;
+
+    // The recipe's createdAt, so the timeline sorts like the recipe listings
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public TimelineEntry() {}
+
+    public TimelineEntry(UUID followerId, UUID recipeId, UUID authorId, LocalDateTime createdAt) {
+        this.followerId = followerId;
+        this.recipeId = recipeId;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public UUID getFollowerId() {
+        return followerId;
+    }
+
+    public void setFollowerId(UUID followerId) {
+        this.followerId = followerId;
+    }
+
+    public UUID getRecipeId() {
+        return recipeId;
+    }
+
+    public void setRecipeId(UUID recipeId) {
+        this.recipeId = recipeId;
+    }
+
+    public UUID getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(UUID authorId) {
+        this.authorId = authorId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private UUID followerId;
+        private UUID recipeId;
+
+        public Key() {}
+
+        public Key(UUID followerId, UUID recipeId) {
+            this.followerId = followerId;
+            this.recipeId = recipeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Key that = (Key) o;
+            return Objects.equals(followerId, that.followerId) && Objects.equals(recipeId, that.recipeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(followerId, recipeId);
+        }
+    }
+}
\ No newline at end of file
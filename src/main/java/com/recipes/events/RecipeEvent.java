@@ -0,0 +1,99 @@
+package com.recipes.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Compact recipe event sent from the API to the worker. The API and the worker each keep an
+// identical copy of this class. It carries identifiers and the names of the changed fields, never
+// the recipe itself; consumers that need the content read it by id. One-letter JSON names and
+// omitted empty values keep a message to a few dozen bytes.
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class RecipeEvent {
+    // Bumped on incompatible payload changes so consumers can tell versions apart
+    public static final int SCHEMA_VERSION = 1;
+
+    // Names used in changedFields
+    public static final String TITLE = "title";
+    public static final String SUMMARY = "summary";
+    public static final String INGREDIENTS = "ingredients";
+    public static final String STEPS = "steps";
+    public static final String LABELS = "labels";
+    public static final String STATUS = "status";
+
+    @JsonProperty("v")
+    private int schemaVersion = SCHEMA_VERSION;
+
+    @JsonProperty("id")
+    private UUID recipeId;
+
+    @JsonProperty("a")
+    private UUID authorId;
+
+    // Increases with every change of the recipe; lets consumers drop stale or repeated events
+    @JsonProperty("r")
+    private long revision;
+
+    @JsonProperty("c")
+    private List<String> changedFields = new ArrayList<>();
+
+    // Constructors
+    public RecipeEvent() {}
+
+    public RecipeEvent(UUID recipeId, UUID authorId, long revision, List<String> changedFields) {
+        this.recipeId = recipeId;
+        this.authorId = authorId;
+        this.revision = revision;
+        this.changedFields = changedFields;
+    }
+
+    // Getters and Setters
+    public int getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    public void setSchemaVersion(int schemaVersion) {
+        this.schemaVersion = schemaVersion;
+    }
+
+    public UUID getRecipeId() {
+        return recipeId;
+    }
+
+    public void setRecipeId(UUID recipeId) {
+        this.recipeId = recipeId;
+    }
+
+    public UUID getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(UUID authorId) {
+        this.authorId = authorId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public List<String> getChangedFields() {
+        return changedFields;
+    }
+
+    public void setChangedFields(List<String> changedFields) {
+        this.changedFields = changedFields;
+    }
+
+    @Override
+    public String toString() {
+        return "RecipeEvent{id=" + recipeId + ", author=" + authorId + ", revision=" + revision +
+                ", changed=" + changedFields + "}";
+    }
+}
\ No newline at end of file
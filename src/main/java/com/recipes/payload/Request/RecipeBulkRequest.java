@@ -0,0 +1,20 @@
+package com.recipes.payload.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public class RecipeBulkRequest {
+    @NotEmpty
+    @Valid
+    private List<RecipeRequest> recipes;
+
+    // Getters and Setters
+    public List<RecipeRequest> getRecipes() {
+        return recipes;
+    }
+
+    public void setRecipes(List<RecipeRequest> recipes) {
+        this.recipes = recipes;
+    }
+}
\ No newline at end of file
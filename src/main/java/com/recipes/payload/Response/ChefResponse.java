@@ -3,6 +3,8 @@ package com.recipes.payload.response;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class ChefResponse {
     private UUID id;
     private String handle;
@@ -12,6 +14,17 @@ public class ChefResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Not set on recipe authors
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long followerCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long followingCount;
+
+    // Published recipes
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long recipeCount;
+
     // Constructors
     public ChefResponse() {}
 
@@ -26,6 +39,15 @@ public class ChefResponse {
         this.updatedAt = updatedAt;
     }
 
+    public ChefResponse(UUID id, String handle, String name, String email, boolean verified,
+                       LocalDateTime createdAt, LocalDateTime updatedAt,
+                       long followerCount, long followingCount, long recipeCount) {
+        this(id, handle, name, email, verified, createdAt, updatedAt);
+        this.followerCount = followerCount;
+        this.followingCount = followingCount;
+        this.recipeCount = recipeCount;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -82,4 +104,28 @@ public class ChefResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getFollowerCount() {
+        return followerCount;
+    }
+
+    public void setFollowerCount(Long followerCount) {
+        this.followerCount = followerCount;
+    }
+
+    public Long getFollowingCount() {
+        return followingCount;
+    }
+
+    public void setFollowingCount(Long followingCount) {
+        this.followingCount = followingCount;
+    }
+
+    public Long getRecipeCount() {
+        return recipeCount;
+    }
+
+    public void setRecipeCount(Long recipeCount) {
+        this.recipeCount = recipeCount;
+    }
 }
\ No newline at end of file
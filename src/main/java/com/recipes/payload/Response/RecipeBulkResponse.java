@@ -0,0 +1,31 @@
+package com.recipes.payload.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public class RecipeBulkResponse {
+    private int created;
+    private List<UUID> ids;
+
+    public RecipeBulkResponse(List<UUID> ids) {
+        this.created = ids.size();
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
\ No newline at end of file
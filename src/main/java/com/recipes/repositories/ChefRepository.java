@@ -1,15 +1,110 @@
 package com.recipes.repositories;
 
 import com.recipes.entities.Chef;
+import com.recipes.payload.response.ChefResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ChefRepository extends JpaRepository<Chef, UUID> {
+    // The authentication lookup: always read from the database, bypassing the query and entity
+    // caches, so a token version changed on another instance is seen at once
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
     Optional<Chef> findByEmail(String email);
+
+    // For updates of the chef row (e.g. token revocation), which must start from the database's values
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("SELECT c FROM Chef c WHERE c.id = :id")
+    Optional<Chef> findCurrentById(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Chef> findByHandle(String handle);
+
     Boolean existsByEmail(String email);
     Boolean existsByHandle(String handle);
+
+    @Query("SELECT c.handle FROM Chef c WHERE c.id = :id")
+    Optional<String> findHandleById(@Param("id") UUID id);
+
+    // Adds the follow unless it exists; returns 0 when it already existed or the chef is unknown
+    @Modifying
+    @Query(value = "INSERT INTO chef_followers (chef_id, follower_id) " +
+                   "SELECT c.id, :followerId FROM chefs c WHERE c.id = :chefId " +
+                   "AND NOT EXISTS (SELECT 1 FROM chef_followers f WHERE f.chef_id = :chefId AND f.follower_id = :followerId)",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chef_followers"))
+    int insertFollow(@Param("chefId") UUID chefId, @Param("followerId") UUID followerId);
+
+    @Modifying
+    @Query(value = "DELETE FROM chef_followers WHERE chef_id = :chefId AND follower_id = :followerId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chef_followers"))
+    int deleteFollow(@Param("chefId") UUID chefId, @Param("followerId") UUID followerId);
+
+    @Query("SELECT c.id, c.tokenVersion FROM Chef c WHERE c.tokenVersion <> 0")
+    List<Object[]> findRevokedTokenVersions();
+
+    // Chefs among the given ones with more than maxFollowers followers; their recipes are not fanned out
+    @Query("SELECT c.id FROM Chef c WHERE c.id IN :chefIds AND c.followerCount > :maxFollowers")
+    List<UUID> findIdsWithMoreFollowersThan(@Param("chefIds") Collection<UUID> chefIds, @Param("maxFollowers") long maxFollowers);
+
+    // Keyset pages of the chefs a chef follows and of its followers, ordered by handle. Only the
+    // ChefResponse columns are read.
+    @Query("SELECT new com.recipes.payload.response.ChefResponse(c.id, c.handle, c.name, c.email, c.verified, c.createdAt, c.updatedAt, c.followerCount, c.followingCount, c.recipeCount) " +
+           "FROM Chef c JOIN c.followers f WHERE f.id = :chefId ORDER BY c.handle")
+    List<ChefResponse> findFollowing(@Param("chefId") UUID chefId, Pageable pageable);
+
+    @Query("SELECT new com.recipes.payload.response.ChefResponse(c.id, c.handle, c.name, c.email, c.verified, c.createdAt, c.updatedAt, c.followerCount, c.followingCount, c.recipeCount) " +
+           "FROM Chef c JOIN c.followers f WHERE f.id = :chefId AND c.handle > :afterHandle ORDER BY c.handle")
+    List<ChefResponse> findFollowingAfter(@Param("chefId") UUID chefId, @Param("afterHandle") String afterHandle, Pageable pageable);
+
+    @Query("SELECT new com.recipes.payload.response.ChefResponse(f.id, f.handle, f.name, f.email, f.verified, f.createdAt, f.updatedAt, f.followerCount, f.followingCount, f.recipeCount) " +
+           "FROM Chef c JOIN c.followers f WHERE c.id = :chefId ORDER BY f.handle")
+    List<ChefResponse> findFollowers(@Param("chefId") UUID chefId, Pageable pageable);
+
+    @Query("SELECT new com.recipes.payload.response.ChefResponse(f.id, f.handle, f.name, f.email, f.verified, f.createdAt, f.updatedAt, f.followerCount, f.followingCount, f.recipeCount) " +
+           "FROM Chef c JOIN c.followers f WHERE c.id = :chefId AND f.handle > :afterHandle ORDER BY f.handle")
+    List<ChefResponse> findFollowersAfter(@Param("chefId") UUID chefId, @Param("afterHandle") String afterHandle, Pageable pageable);
+
+    @Query("SELECT new com.recipes.payload.response.ChefResponse(c.id, c.handle, c.name, c.email, c.verified, c.createdAt, c.updatedAt, c.followerCount, c.followingCount, c.recipeCount) " +
+           "FROM Chef c ORDER BY c.followerCount DESC, c.id")
+    List<ChefResponse> findMostFollowed(Pageable pageable);
+
+    // Counter updates; bulk statements, so they neither load the chef nor race with entity saves.
+    // They synchronize on COUNTER_SPACE instead of the chefs table, so Hibernate does not clear the
+    // whole Chef cache region; callers evict the touched chefs with SecondLevelCache.
+    String COUNTER_SPACE = "chef_counters";
+
+    @Modifying
+    @Query(value = "UPDATE chefs SET follower_count = follower_count + :delta WHERE id = :chefId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    int addToFollowerCount(@Param("chefId") UUID chefId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE chefs SET following_count = following_count + :delta WHERE id = :chefId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    int addToFollowingCount(@Param("chefId") UUID chefId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE chefs SET recipe_count = recipe_count + :delta WHERE id = :chefId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    int addToRecipeCount(@Param("chefId") UUID chefId, @Param("delta") long delta);
+
+    // Ids of the chefs a chef follows, read from chef_followers without loading either chef
+    @Query("SELECT c.id FROM Chef c JOIN c.followers f WHERE f.id = :chefId")
+    List<UUID> findFollowingIds(@Param("chefId") UUID chefId);
+
+    // Rows are (chefId, followerId)
+    @Query("SELECT c.id, f.id FROM Chef c JOIN c.followers f ORDER BY c.id, f.id")
+    List<Object[]> findFollowEdges(Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.recipes.repositories;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.UUID;
+
+// Reads UUID columns in plain JDBC code. Hibernate stores UUIDs as a native uuid type on H2 and
+// PostgreSQL but as binary(16) on MySQL, which Connector/J cannot convert to a UUID itself.
+public final class JdbcUuids {
+
+    // How the databases order UUIDs: by their 16 big-endian bytes, unsigned (uuid on H2 and
+    // PostgreSQL, binary(16) on MySQL). UUID.compareTo compares the two halves as signed longs,
+    // which disagrees whenever the top bit of a half differs. In-memory merges and seeks that must
+    // line up with ORDER BY id use this order.
+    public static final Comparator<UUID> DATABASE_ORDER = (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    private JdbcUuids() {}
+
+    public static UUID read(ResultSet row, int column) throws SQLException {
+        return toUuid(row.getObject(column));
+    }
+
+    // A column value as returned by the driver: a UUID, 16 big-endian bytes, or the text form
+    public static UUID toUuid(Object value) {
+        if (value == null || value instanceof UUID) {
+            return (UUID) value;
+        }
+        if (value instanceof byte[] bytes && bytes.length == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return UUID.fromString(value.toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.recipes.repositories;
+
+import com.recipes.entities.ListingVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ListingVersionRepository extends JpaRepository<ListingVersion, Integer> {
+    // Always its own short transaction: called after the recipe change committed, and holding the
+    // counter row's lock only for the update keeps writers from queueing behind each other
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE ListingVersion v SET v.version = v.version + 1 WHERE v.id = " + ListingVersion.ID)
+    int increment();
+
+    // Scalars rather than the entity, so a row already loaded in the persistence context is not returned stale
+    @Query("SELECT v.epoch, v.version FROM ListingVersion v WHERE v.id = " + ListingVersion.ID)
+    List<Object[]> findEpochAndVersion();
+}
\ No newline at end of file
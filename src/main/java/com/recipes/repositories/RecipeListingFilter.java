@@ -0,0 +1,107 @@
+package com.recipes.repositories;
+
+import com.recipes.entities.Recipe;
+import com.recipes.entities.Recipe.RecipeStatus;
+import com.recipes.entities.SearchText;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Filters of a recipe listing, as one query for every combination: keyword, authors, createdAt
+// range and keyset cursor are each applied only when set. Used with findAll (a Page with its COUNT
+// query) or findSlice (no COUNT).
+public class RecipeListingFilter implements Specification<Recipe> {
+
+    // Listing order; keyset cursors and offset pages both rely on it
+    public static final Sort NEWEST_FIRST = Sort.by("createdAt").descending().and(Sort.by("id").descending());
+
+    private final RecipeStatus status;
+    private String keyword;
+    private Collection<UUID> authorIds;
+    private LocalDateTime fromDate;
+    private LocalDateTime toDate;
+    private LocalDateTime cursorCreatedAt;
+    private UUID cursorId;
+
+    private RecipeListingFilter(RecipeStatus status) {
+        this.status = status;
+    }
+
+    public static RecipeListingFilter withStatus(RecipeStatus status) {
+        return new RecipeListingFilter(status);
+    }
+
+    // Every term of the keyword starts a term of the title, summary, ingredients or steps, as in the
+    // search index (see SearchText); null or empty matches all, a keyword without terms none
+    public RecipeListingFilter keyword(String keyword) {
+        this.keyword = keyword != null && !keyword.isEmpty() ? keyword : null;
+        return this;
+    }
+
+    // Recipes by any of these chefs; null matches all, an empty collection none
+    public RecipeListingFilter authors(Collection<UUID> authorIds) {
+        this.authorIds = authorIds;
+        return this;
+    }
+
+    // Inclusive createdAt bounds; a null bound is open
+    public RecipeListingFilter createdBetween(LocalDateTime fromDate, LocalDateTime toDate) {
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        return this;
+    }
+
+    // Recipes strictly after the cursor position in NEWEST_FIRST order
+    public RecipeListingFilter before(LocalDateTime cursorCreatedAt, UUID cursorId) {
+        this.cursorCreatedAt = cursorCreatedAt;
+        this.cursorId = cursorId;
+        return this;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<Recipe> recipe, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(recipe.get("status"), status));
+
+        if (keyword != null) {
+            List<String> patterns = SearchText.likePatterns(keyword);
+            if (patterns.isEmpty()) {
+                predicates.add(cb.disjunction());
+            }
+            for (String pattern : patterns) {
+                predicates.add(cb.like(recipe.get("searchText"), pattern));
+            }
+        }
+
+        if (authorIds != null) {
+            predicates.add(authorIds.isEmpty() ? cb.disjunction() : recipe.get("author").get("id").in(authorIds));
+        }
+
+        Path<LocalDateTime> createdAt = recipe.get("createdAt");
+        if (fromDate != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, fromDate));
+        }
+        if (toDate != null) {
+            predicates.add(cb.lessThanOrEqualTo(createdAt, toDate));
+        }
+
+        if (cursorCreatedAt != null) {
+            Path<UUID> id = recipe.get("id");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, cursorCreatedAt),
+                    cb.and(cb.equal(createdAt, cursorCreatedAt), cb.lessThan(id, cursorId))));
+        }
+
+        return cb.and(predicates.toArray(new Predicate[0]));
+    }
+}
\ No newline at end of file
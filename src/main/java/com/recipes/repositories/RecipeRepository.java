@@ -1,75 +1,47 @@
 package com.recipes.repositories;
 
 import com.recipes.entities.Recipe;
-import com.recipes.entities.Chef;
 import com.recipes.entities.Recipe.RecipeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, UUID> {
+public interface RecipeRepository extends JpaRepository<Recipe, UUID>, JpaSpecificationExecutor<Recipe>,
+        RecipeSliceRepository {
+    // Write paths load the recipe past the second-level cache, so the @Version they update is the
+    // database's and not a copy cached before another instance's write
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("SELECT r FROM Recipe r WHERE r.id = :id")
+    Optional<Recipe> findCurrentById(@Param("id") UUID id);
+
+    // Listings with further filters pass a RecipeListingFilter to findAll (Page) or findSlice (Slice)
     Page<Recipe> findByStatus(RecipeStatus status, Pageable pageable);
-    
-    @Query("SELECT r FROM Recipe r WHERE r.status = :status AND " +
-           "(LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "EXISTS(SELECT 1 FROM r.ingredients i WHERE LOWER(i) LIKE LOWER(CONCAT('%', :keyword, '%'))) OR " +
-           "EXISTS(SELECT 1 FROM r.steps s WHERE LOWER(s) LIKE LOWER(CONCAT('%', :keyword, '%'))))")
-    Page<Recipe> findByStatusAndKeyword(@Param("status") RecipeStatus status, 
-                                       @Param("keyword") String keyword, 
-                                       Pageable pageable);
-                                       
-    @Query("SELECT r FROM Recipe r WHERE r.status = :status AND r.author.id = :authorId")
-    Page<Recipe> findByStatusAndAuthorId(@Param("status") RecipeStatus status, 
-                                        @Param("authorId") UUID authorId, 
-                                        Pageable pageable);
-                                        
-    @Query("SELECT r FROM Recipe r WHERE r.status = :status AND r.author.id IN :followedChefIds")
-    Page<Recipe> findByStatusAndAuthorIn(@Param("status") RecipeStatus status, 
-                                        @Param("followedChefIds") List<UUID> followedChefIds, 
-                                        Pageable pageable);
-                                        
-    @Query("SELECT r FROM Recipe r WHERE r.status = :status AND r.createdAt BETWEEN :fromDate AND :toDate")
-    Page<Recipe> findByStatusAndCreatedAtBetween(@Param("status") RecipeStatus status, 
-                                                @Param("fromDate") LocalDateTime fromDate, 
-                                                @Param("toDate") LocalDateTime toDate, 
-                                                Pageable pageable);
-                                                
-    @Query("SELECT r FROM Recipe r WHERE r.status = :status AND " +
-           "(LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "EXISTS(SELECT 1 FROM r.ingredients i WHERE LOWER(i) LIKE LOWER(CONCAT('%', :keyword, '%'))) OR " +
-           "EXISTS(SELECT 1 FROM r.steps s WHERE LOWER(s) LIKE LOWER(CONCAT('%', :keyword, '%')))) AND " +
-           "r.author.id IN :followedChefIds")
-    Page<Recipe> findByStatusAndKeywordAndAuthorIn(@Param("status") RecipeStatus status, 
-                                                  @Param("keyword") String keyword, 
-                                                  @Param("followedChefIds") List<UUID> followedChefIds, 
-                                                  Pageable pageable);
-                                                  
-    @Query("SELECT r FROM Recipe r WHERE r.status = :status AND r.author.id IN :followedChefIds AND r.createdAt BETWEEN :fromDate AND :toDate")
-    Page<Recipe> findByStatusAndAuthorInAndCreatedAtBetween(@Param("status") RecipeStatus status, 
-                                                           @Param("followedChefIds") List<UUID> followedChefIds, 
-                                                           @Param("fromDate") LocalDateTime fromDate, 
-                                                           @Param("toDate") LocalDateTime toDate, 
-                                                           Pageable pageable);
-                                                           
-    @Query("SELECT r FROM Recipe r WHERE r.status = :status AND " +
-           "(LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.summary) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "EXISTS(SELECT 1 FROM r.ingredients i WHERE LOWER(i) LIKE LOWER(CONCAT('%', :keyword, '%'))) OR " +
-           "EXISTS(SELECT 1 FROM r.steps s WHERE LOWER(s) LIKE LOWER(CONCAT('%', :keyword, '%')))) AND " +
-           "r.author.id IN :followedChefIds AND r.createdAt BETWEEN :fromDate AND :toDate")
-    Page<Recipe> findByStatusAndKeywordAndAuthorInAndCreatedAtBetween(@Param("status") RecipeStatus status, 
-                                                                     @Param("keyword") String keyword,
-                                                                     @Param("followedChefIds") List<UUID> followedChefIds, 
-                                                                     @Param("fromDate") LocalDateTime fromDate, 
-                                                                     @Param("toDate") LocalDateTime toDate, 
-                                                                     Pageable pageable);
+
+    // Rows used to build the in-memory search index: id, author id, createdAt, title, summary, content
+    @Query("SELECT r.id, r.author.id, r.createdAt, r.title, r.summary, r.content FROM Recipe r " +
+           "WHERE r.status = :status ORDER BY r.createdAt, r.id")
+    List<Object[]> findSearchDocuments(@Param("status") RecipeStatus status, Pageable pageable);
+
+    // Recipes of any status written since a time, for the search index to catch up with other
+    // instances: the findSearchDocuments columns followed by status
+    @Query("SELECT r.id, r.author.id, r.createdAt, r.title, r.summary, r.content, r.status FROM Recipe r " +
+           "WHERE r.updatedAt >= :since")
+    List<Object[]> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+    long countByStatus(RecipeStatus status);
+
+    @Query("SELECT r.id FROM Recipe r WHERE r.status = :status")
+    List<UUID> findIdsByStatus(@Param("status") RecipeStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.recipes.repositories;
+
+import com.recipes.entities.Recipe;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+// Specification queries that skip the COUNT query JpaSpecificationExecutor.findAll runs for a Page
+public interface RecipeSliceRepository {
+    Slice<Recipe> findSlice(Specification<Recipe> specification, Pageable pageable);
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.recipes.repositories;
+
+import com.recipes.entities.TimelineEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimelineRepository extends JpaRepository<TimelineEntry, TimelineEntry.Key> {
+    // Rows are (recipeId, createdAt), newest first
+    @Query("SELECT t.recipeId, t.createdAt FROM TimelineEntry t WHERE t.followerId = :followerId " +
+           "AND t.createdAt BETWEEN :fromDate AND :toDate ORDER BY t.createdAt DESC, t.recipeId DESC")
+    List<Object[]> findEntries(@Param("followerId") UUID followerId,
+                               @Param("fromDate") LocalDateTime fromDate,
+                               @Param("toDate") LocalDateTime toDate,
+                               Pageable pageable);
+
+    @Query("SELECT t.recipeId, t.createdAt FROM TimelineEntry t WHERE t.followerId = :followerId " +
+           "AND t.createdAt BETWEEN :fromDate AND :toDate " +
+           "AND (t.createdAt < :cursorCreatedAt OR (t.createdAt = :cursorCreatedAt AND t.recipeId < :cursorId)) " +
+           "ORDER BY t.createdAt DESC, t.recipeId DESC")
+    List<Object[]> findEntriesBeforeCursor(@Param("followerId") UUID followerId,
+                                           @Param("fromDate") LocalDateTime fromDate,
+                                           @Param("toDate") LocalDateTime toDate,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") UUID cursorId,
+                                           Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM TimelineEntry t WHERE t.followerId = :followerId " +
+           "AND t.createdAt BETWEEN :fromDate AND :toDate")
+    long countEntries(@Param("followerId") UUID followerId,
+                      @Param("fromDate") LocalDateTime fromDate,
+                      @Param("toDate") LocalDateTime toDate);
+
+    // Copy the newest published recipes of a chef into the follower's timeline, skipping ones already there
+    @Modifying
+    @Query(value = "INSERT INTO chef_timeline (follower_id, recipe_id, author_id, created_at) " +
+                   "SELECT :followerId, r.id, r.author_id, r.created_at FROM recipes r " +
+                   "WHERE r.author_id = :authorId AND r.status = 'PUBLISHED' " +
+                   "AND NOT EXISTS (SELECT 1 FROM chef_timeline t WHERE t.follower_id = :followerId AND t.recipe_id = r.id) " +
+                   "ORDER BY r.created_at DESC LIMIT :limit",
+           nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chef_timeline"))
+    int backfill(@Param("followerId") UUID followerId, @Param("authorId") UUID authorId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.followerId = :followerId AND t.authorId = :authorId")
+    int deleteByFollowerIdAndAuthorId(@Param("followerId") UUID followerId, @Param("authorId") UUID authorId);
+}
\ No newline at end of file
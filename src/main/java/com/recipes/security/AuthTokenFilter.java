@@ -7,12 +7,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import io.jsonwebtoken.Claims;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,6 +26,16 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private JwtAuthenticationCache authenticationCache;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    // "database" loads the chef for each new token; "claims" builds the principal from the token alone
+    @Value("${app.jwt.principal-source:database}")
+    String principalSource = "database";
+
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
     @Override
@@ -31,10 +43,12 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String email = jwtUtils.getEmailFromJwtToken(jwt);
+            UserDetailsImpl userDetails = null;
+            if (jwt != null) {
+                userDetails = "claims".equals(principalSource) ? principalFromClaims(jwt) : principalFromDatabase(jwt);
+            }
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -51,6 +65,50 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // One HMAC verification and no database access; revocation is checked against the in-memory versions
+    private UserDetailsImpl principalFromClaims(String jwt) {
+        Claims claims = jwtUtils.parseClaims(jwt);
+        if (claims == null) {
+            return null;
+        }
+
+        UserDetailsImpl userDetails = jwtUtils.buildPrincipal(claims);
+        if (!tokenVersionRegistry.isCurrent(userDetails.getId(), userDetails.getTokenVersion())) {
+            logger.error("JWT token is revoked");
+            return null;
+        }
+        return userDetails;
+    }
+
+    // Loads the chef for tokens that are not cached yet. Cached principals are checked against the
+    // token version registry as well, so a principal cached just before a refresh dropped it is
+    // still rejected once the revocation is known here.
+    private UserDetailsImpl principalFromDatabase(String jwt) {
+        UserDetailsImpl userDetails = authenticationCache.get(jwt);
+        if (userDetails != null) {
+            if (tokenVersionRegistry.isRevoked(userDetails.getId(), userDetails.getTokenVersion())) {
+                logger.error("JWT token is revoked");
+                return null;
+            }
+            return userDetails;
+        }
+
+        Claims claims = jwtUtils.parseClaims(jwt);
+        if (claims == null) {
+            return null;
+        }
+
+        // The lookup bypasses the second-level and query caches, so the version is the committed one
+        userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(claims.getSubject());
+        if (userDetails.getTokenVersion() != jwtUtils.getTokenVersion(claims)
+                || tokenVersionRegistry.isRevoked(userDetails.getId(), userDetails.getTokenVersion())) {
+            logger.error("JWT token is revoked");
+            return null;
+        }
+        authenticationCache.put(jwt, userDetails, claims.getExpiration());
+        return userDetails;
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -0,0 +1,64 @@
+package com.recipes.security;
+
+import java.util.UUID;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.recipes.entities.Chef;
+
+// JPA entity listener on Chef that drops cached principals and records the token version when a
+// chef is updated or deleted. Inside a transaction this happens once it commits, so a rolled-back
+// change leaves no trace in memory. The beans are looked up lazily because slice tests
+// (e.g. @DataJpaTest) run without them.
+@Component
+public class ChefChangeListener {
+
+    @Autowired
+    ObjectProvider<JwtAuthenticationCache> authenticationCache;
+
+    @Autowired
+    ObjectProvider<TokenVersionRegistry> tokenVersionRegistry;
+
+    @PostUpdate
+    public void onChefUpdated(Chef chef) {
+        if (authenticationCache != null) {
+            UUID chefId = chef.getId();
+            int tokenVersion = chef.getTokenVersion();
+            afterCommit(() -> {
+                authenticationCache.ifAvailable(cache -> cache.invalidateChef(chefId));
+                tokenVersionRegistry.ifAvailable(registry -> registry.update(chefId, tokenVersion));
+            });
+        }
+    }
+
+    @PostRemove
+    public void onChefRemoved(Chef chef) {
+        if (authenticationCache != null) {
+            UUID chefId = chef.getId();
+            afterCommit(() -> {
+                authenticationCache.ifAvailable(cache -> cache.invalidateChef(chefId));
+                tokenVersionRegistry.ifAvailable(registry -> registry.remove(chefId));
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
\ No newline at end of file
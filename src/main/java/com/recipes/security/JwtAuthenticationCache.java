@@ -0,0 +1,95 @@
+package com.recipes.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Verified tokens and the principals built for them, keyed by a SHA-256 hash of the token.
+// An entry lives until the token expires or app.jwt.cache.ttl-ms passes, whichever is first, and
+// is dropped as soon as the chef it belongs to changes. A hit skips both the signature check and
+// the chef lookup.
+@Component
+public class JwtAuthenticationCache {
+
+    @Value("${app.jwt.cache.ttl-ms:300000}")
+    long ttlMs = 300000;
+
+    @Value("${app.jwt.cache.max-entries:10000}")
+    int maxEntries = 10000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // Returns the cached principal, or null when the token is unknown or its entry has expired
+    public UserDetailsImpl get(String token) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    public void put(String token, UserDetailsImpl principal, Date tokenExpiration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMs;
+        if (tokenExpiration != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiration.getTime());
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        if (entries.size() >= maxEntries) {
+            // Make room by dropping the entry that would expire first
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                    .ifPresent(first -> entries.remove(first.getKey()));
+        }
+        entries.put(hash(token), new Entry(principal, expiresAt));
+    }
+
+    // Drop every cached principal of the chef, e.g. after the chef record was updated or deleted
+    public void invalidateChef(UUID chefId) {
+        entries.values().removeIf(entry -> entry.principal.getId().equals(chefId));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Helper method to avoid keeping raw tokens as map keys
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Entry {
+        final UserDetailsImpl principal;
+        final long expiresAt;
+
+        Entry(UserDetailsImpl principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
\ No newline at end of file
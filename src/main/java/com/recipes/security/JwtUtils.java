@@ -8,11 +8,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import com.recipes.security.UserDetailsImpl;
 
 import java.security.Key;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -25,6 +29,11 @@ public class JwtUtils {
     @Value("${app.jwt.expirationMs}")
     private int jwtExpirationMs;
 
+    // Built once from the secret; decoding it and building the HMAC key per request is wasted work
+    private volatile Key key;
+
+    private volatile JwtParser parser;
+
     public String generateJwtToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
         
@@ -37,6 +46,7 @@ public class JwtUtils {
                 .claim("userId", userPrincipal.getId())
                 .claim("username", userPrincipal.getUsername())
                 .claim("authorities", authorities)
+                .claim("tokenVersion", userPrincipal.getTokenVersion())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(key(), SignatureAlgorithm.HS256)
@@ -44,18 +54,31 @@ public class JwtUtils {
     }
 
     private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        }
+        return key;
+    }
+
+    private JwtParser parser() {
+        if (parser == null) {
+            parser = Jwts.parserBuilder().setSigningKey(key()).build();
+        }
+        return parser;
     }
 
     public String getEmailFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser().parseClaimsJws(token).getBody().getSubject();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseClaims(authToken) != null;
+    }
+
+    // Verifies the token once and returns its claims, or null when it is not valid
+    public Claims parseClaims(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
-            return true;
+            return parser().parseClaimsJws(authToken).getBody();
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -66,6 +89,33 @@ public class JwtUtils {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
 
-        return false;
+        return null;
+    }
+
+    // Principal built from verified claims alone, without loading the chef; it carries no password
+    public UserDetailsImpl buildPrincipal(Claims claims) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        String authorityClaim = claims.get("authorities", String.class);
+        if (authorityClaim != null) {
+            for (String authority : authorityClaim.split(",")) {
+                if (!authority.isEmpty()) {
+                    authorities.add(new SimpleGrantedAuthority(authority));
+                }
+            }
+        }
+
+        return new UserDetailsImpl(
+                UUID.fromString(claims.get("userId", String.class)),
+                claims.get("username", String.class),
+                claims.getSubject(),
+                null,
+                authorities,
+                getTokenVersion(claims));
+    }
+
+    // Tokens issued before the claim existed count as version 0
+    public int getTokenVersion(Claims claims) {
+        Integer tokenVersion = claims.get("tokenVersion", Integer.class);
+        return tokenVersion != null ? tokenVersion : 0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.recipes.security;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.recipes.repositories.ChefRepository;
+
+// Current token version of every chef that has revoked tokens, so claims-based authentication can
+// reject revoked tokens without a database lookup. Chefs not in the map are at version 0. Loaded
+// when the application is ready, kept current by ChefChangeListener for this instance's commits,
+// and reloaded every app.jwt.token-versions.refresh-ms so revocations on other instances take
+// effect within that delay. A reload that finds a newer version also drops the chef's cached
+// principals, so database-backed authentication sees the revocation as well.
+@Component
+public class TokenVersionRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(TokenVersionRegistry.class);
+
+    // No token version matches a deleted chef
+    private static final int REMOVED = Integer.MIN_VALUE;
+
+    @Autowired
+    ChefRepository chefRepository;
+
+    @Autowired
+    JwtAuthenticationCache authenticationCache;
+
+    private final Map<UUID, Integer> versions = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+        loaded = true;
+        logger.info("Loaded token versions of {} chefs", versions.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.token-versions.refresh-ms:5000}")
+    public void scheduledRefresh() {
+        if (loaded) {
+            refresh();
+        }
+    }
+
+    // Versions only grow, so a reload never undoes a newer version or a removal seen by this instance
+    public void refresh() {
+        for (Object[] row : chefRepository.findRevokedTokenVersions()) {
+            UUID chefId = (UUID) row[0];
+            int tokenVersion = (Integer) row[1];
+            Integer previous = versions.get(chefId);
+            if (previous != null && (previous == REMOVED || previous >= tokenVersion)) {
+                continue;
+            }
+            versions.put(chefId, tokenVersion);
+            if (authenticationCache != null) {
+                authenticationCache.invalidateChef(chefId);
+            }
+        }
+    }
+
+    public boolean isCurrent(UUID chefId, int tokenVersion) {
+        return versions.getOrDefault(chefId, 0) == tokenVersion;
+    }
+
+    // True when this instance already knows of a newer version (or a removal); unlike isCurrent, a
+    // version newer than the registry's is not rejected, since it may come from a revocation on
+    // another instance that the next refresh will pick up
+    public boolean isRevoked(UUID chefId, int tokenVersion) {
+        Integer current = versions.get(chefId);
+        return current != null && (current == REMOVED || current > tokenVersion);
+    }
+
+    public void update(UUID chefId, int tokenVersion) {
+        if (tokenVersion == 0) {
+            versions.remove(chefId);
+        } else {
+            versions.put(chefId, tokenVersion);
+        }
+    }
+
+    public void remove(UUID chefId) {
+        versions.put(chefId, REMOVED);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+package com.recipes.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.recipes.repositories.ChefRepository;
+
+/**
+ * In-memory copy of the chef_followers table.
+ *
+ * Chef UUIDs are mapped to dense int ids, and each chef keeps a sorted int array of the chefs it
+ * follows, so an edge costs 4 bytes. The graph is loaded when the application is ready, kept
+ * current by this instance's follow/unfollow, and reloaded every app.follow-graph.refresh-ms to
+ * pick up follows made on other instances; until it is loaded {@link #isReady} is false and
+ * callers query chef_followers instead.
+ */
+@Component
+public class FollowGraph {
+    private static final Logger logger = LoggerFactory.getLogger(FollowGraph.class);
+
+    private static final int LOAD_BATCH_SIZE = 10000;
+
+    @Autowired
+    ChefRepository chefRepository;
+
+    @Value("${app.follow-graph.enabled:true}")
+    boolean enabled = true;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+
+    private boolean ready = false;
+
+    // Edge changes that arrive while a rebuild is loading; replayed onto the new state before it is swapped in
+    private List<Edge> pendingWrites;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.follow-graph.refresh-ms:30000}")
+    public void scheduledRefresh() {
+        if (isReady()) {
+            rebuild();
+        }
+    }
+
+    // Reload the graph from the chef_followers table
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingWrites = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State fresh = new State();
+        long edges = 0;
+        try {
+            int page = 0;
+            List<Object[]> rows;
+            do {
+                rows = chefRepository.findFollowEdges(PageRequest.of(page++, LOAD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    fresh.add((UUID) row[1], (UUID) row[0]);
+                }
+                edges += rows.size();
+            } while (rows.size() == LOAD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            logger.error("Cannot build follow graph: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                pendingWrites = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Edge write : pendingWrites) {
+                if (write.added) {
+                    fresh.add(write.followerId, write.chefId);
+                } else {
+                    fresh.remove(write.followerId, write.chefId);
+                }
+            }
+            pendingWrites = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Follow graph built with {} chefs and {} edges in {} ms",
+                fresh.uuids.size(), edges, System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<UUID> getFollowingIds(UUID chefId) {
+        lock.readLock().lock();
+        try {
+            Integer chef = state.ids.get(chefId);
+            return chef != null ? state.toUuids(state.following.get(chef)) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Record a follow; inside a transaction the graph changes only once it commits
+    public void follow(UUID followerId, UUID chefId) {
+        afterCommit(new Edge(followerId, chefId, true));
+    }
+
+    public void unfollow(UUID followerId, UUID chefId) {
+        afterCommit(new Edge(followerId, chefId, false));
+    }
+
+    private void afterCommit(Edge edge) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(edge);
+                }
+            });
+        } else {
+            apply(edge);
+        }
+    }
+
+    private void apply(Edge edge) {
+        lock.writeLock().lock();
+        try {
+            if (edge.added) {
+                state.add(edge.followerId, edge.chefId);
+            } else {
+                state.remove(edge.followerId, edge.chefId);
+            }
+            if (pendingWrites != null) {
+                pendingWrites.add(edge);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class Edge {
+        final UUID followerId;
+        final UUID chefId;
+        final boolean added;
+
+        Edge(UUID followerId, UUID chefId, boolean added) {
+            this.followerId = followerId;
+            this.chefId = chefId;
+            this.added = added;
+        }
+    }
+
+    // Sorted, growable int array of dense chef ids
+    private static final class SortedInts {
+        private static final int[] EMPTY = new int[0];
+
+        private int[] values = EMPTY;
+        private int size;
+
+        void add(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(4, size + (size >> 1)));
+            }
+            System.arraycopy(values, pos, values, pos + 1, size - pos);
+            values[pos] = value;
+            size++;
+        }
+
+        void remove(int value) {
+            int pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos >= 0) {
+                System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+                size--;
+            }
+        }
+    }
+
+    private static final class State {
+        final Map<UUID, Integer> ids = new HashMap<>();
+        // Indexed by dense chef id
+        final List<UUID> uuids = new ArrayList<>();
+        final List<SortedInts> following = new ArrayList<>();
+
+        int idOf(UUID uuid) {
+            Integer id = ids.get(uuid);
+            if (id == null) {
+                id = uuids.size();
+                ids.put(uuid, id);
+                uuids.add(uuid);
+                following.add(new SortedInts());
+            }
+            return id;
+        }
+
+        void add(UUID followerId, UUID chefId) {
+            int follower = idOf(followerId);
+            int chef = idOf(chefId);
+            following.get(follower).add(chef);
+        }
+
+        void remove(UUID followerId, UUID chefId) {
+            Integer follower = ids.get(followerId);
+            Integer chef = ids.get(chefId);
+            if (follower != null && chef != null) {
+                following.get(follower).remove(chef);
+            }
+        }
+
+        List<UUID> toUuids(SortedInts chefs) {
+            List<UUID> result = new ArrayList<>(chefs.size);
+            for (int i = 0; i < chefs.size; i++) {
+                result.add(uuids.get(chefs.values[i]));
+            }
+            return result;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.recipes.services;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipes.repositories.ChefRepository;
+
+/**
+ * Follow and unfollow as single statements against the chef_followers join table.
+ *
+ * Neither chef's followers/following collection is loaded, so the cost does not depend on how
+ * many followers a chef has. Concurrent duplicate follows are stopped by the table's unique
+ * constraint and surface as a DataIntegrityViolationException.
+ */
+@Service
+public class FollowService {
+
+    @Autowired
+    ChefRepository chefRepository;
+
+    @Autowired
+    FollowGraph followGraph;
+
+    @Autowired
+    TimelineService timelineService;
+
+    @Autowired
+    SecondLevelCache secondLevelCache;
+
+    // Returns false when the follower already follows the chef
+    @Transactional
+    public boolean follow(UUID followerId, UUID chefId) {
+        if (chefRepository.insertFollow(chefId, followerId) == 0) {
+            return false;
+        }
+        chefRepository.addToFollowerCount(chefId, 1);
+        chefRepository.addToFollowingCount(followerId, 1);
+        secondLevelCache.evictChefs(chefId, followerId);
+        followGraph.follow(followerId, chefId);
+        // Fill the follower's timeline with the chef's recent recipes
+        timelineService.onFollow(followerId, chefId);
+        return true;
+    }
+
+    // Returns false when the follower does not follow the chef
+    @Transactional
+    public boolean unfollow(UUID followerId, UUID chefId) {
+        if (chefRepository.deleteFollow(chefId, followerId) == 0) {
+            return false;
+        }
+        chefRepository.addToFollowerCount(chefId, -1);
+        chefRepository.addToFollowingCount(followerId, -1);
+        secondLevelCache.evictChefs(chefId, followerId);
+        followGraph.unfollow(followerId, chefId);
+        timelineService.onUnfollow(followerId, chefId);
+        return true;
+    }
+}
\ No newline at end of file
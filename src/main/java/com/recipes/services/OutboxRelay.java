@@ -0,0 +1,150 @@
+package com.recipes.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.recipes.entities.OutboxEvent;
+import com.recipes.repositories.OutboxEventRepository;
+
+// Drains the outbox in id order: claims a batch, publishes it, and deletes it only after the transport
+// confirmed it. The claim is a short transaction that locks the due rows (skipped by the relays of
+// other instances, so every instance can run one) and leases them for app.outbox.relay.lease-ms;
+// publishing and waiting for confirms happen outside any transaction, and the outcome is written in
+// another short one. A relay that dies meanwhile leaves its rows to be claimed again once the lease
+// ends, so delivery is at least once. When a batch fails, its events are published one at a time:
+// those before the first failing event are done, that event alone is retried with exponential
+// backoff, and the rest are due again right away. An event that still fails after
+// app.outbox.relay.max-attempts is dead-lettered (kept, but no longer published) so it cannot hold
+// back the events behind it; see README for re-driving dead-lettered events.
+@Component
+public class OutboxRelay {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final long MAX_BACKOFF_MS = 300_000;
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    RecipeEventTransport transport;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Value("${app.outbox.relay.enabled:true}")
+    boolean enabled = true;
+
+    @Value("${app.outbox.relay.batch-size:100}")
+    int batchSize = 100;
+
+    @Value("${app.outbox.relay.max-attempts:20}")
+    int maxAttempts = 20;
+
+    @Value("${app.outbox.relay.retry-backoff-ms:1000}")
+    long retryBackoffMs = 1000;
+
+    @Value("${app.outbox.relay.lease-ms:60000}")
+    long leaseMs = 60000;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval-ms:200}")
+    public void scheduledRelay() {
+        if (enabled) {
+            relay();
+        }
+    }
+
+    // Publishes batches until no event is due or a batch fails; returns the number of events published
+    public int relay() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int published = 0;
+        int batchPublished;
+        do {
+            batchPublished = relayBatch(transaction);
+            published += batchPublished;
+        } while (batchPublished == batchSize);
+        return published;
+    }
+
+    // Returns the number of events published; fewer than batchSize when the outbox is drained or an event failed
+    private int relayBatch(TransactionTemplate transaction) {
+        List<OutboxEvent> batch = transaction.execute(status -> claim());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transport.publish(batch);
+            transaction.executeWithoutResult(status -> delete(batch));
+            return batch.size();
+        } catch (RuntimeException e) {
+            logger.error("Cannot publish {} outbox events, publishing them one at a time: {}", batch.size(), e.getMessage());
+        }
+
+        int published = 0;
+        while (published < batch.size()) {
+            try {
+                transport.publish(List.of(batch.get(published)));
+            } catch (RuntimeException e) {
+                logger.error("Cannot publish outbox event {}: {}", batch.get(published).getId(), e.getMessage());
+                break;
+            }
+            published++;
+        }
+
+        List<OutboxEvent> done = batch.subList(0, published);
+        List<OutboxEvent> notDone = batch.subList(published, batch.size());
+        transaction.executeWithoutResult(status -> {
+            delete(done);
+            if (!notDone.isEmpty()) {
+                // Only the failing event is charged an attempt; the ones behind it were not tried
+                retryLater(notDone.get(0));
+                for (OutboxEvent event : notDone.subList(1, notDone.size())) {
+                    event.setNextAttemptAt(null);
+                }
+                outboxEventRepository.saveAll(notDone);
+            }
+        });
+        return published;
+    }
+
+    // Locks the oldest due events and leases them, so other relays skip them once the lock is released
+    private List<OutboxEvent> claim() {
+        List<OutboxEvent> batch = outboxEventRepository.claimDue(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        LocalDateTime leaseEnd = LocalDateTime.now().plusNanos(leaseMs * 1_000_000);
+        for (OutboxEvent event : batch) {
+            event.setNextAttemptAt(leaseEnd);
+        }
+        return batch;
+    }
+
+    private void delete(List<OutboxEvent> events) {
+        if (!events.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(events.stream()
+                    .map(OutboxEvent::getId)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private void retryLater(OutboxEvent event) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        if (attempts >= maxAttempts) {
+            event.setDeadLettered(true);
+            logger.error("Giving up on outbox event {} ({}) after {} attempts", event.getId(), event.getRoutingKey(), attempts);
+            return;
+        }
+        long backoffMs = Math.min(MAX_BACKOFF_MS, retryBackoffMs << Math.min(attempts - 1, 20));
+        event.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.recipes.services;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Encoded JSON bodies of anonymous /api/public/recipes responses, keyed by the normalized request
+// parameters. Entries live for a short TTL and only while the RecipeListingVersion they were
+// loaded under is current. Concurrent misses for one key share a single load.
+@Component
+public class PublicRecipeResponseCache {
+
+    @Autowired
+    RecipeListingVersion listingVersion;
+
+    @Value("${app.listing.response-cache.enabled:true}")
+    boolean enabled = true;
+
+    @Value("${app.listing.response-cache.ttl-ms:10000}")
+    long ttlMs = 10000;
+
+    @Value("${app.listing.response-cache.max-entries:1000}")
+    int maxEntries = 1000;
+
+    private final Map<List<Object>, Entry> entries = new ConcurrentHashMap<>();
+
+    // Keyed by listing version and request key, so callers never join a load that predates a write
+    private final Map<List<Object>, CompletableFuture<byte[]>> loading = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached body for the key, or runs the loader once for all concurrent callers.
+     * A null body from the loader means "do not cache" and is handed to every waiting caller.
+     */
+    public byte[] get(List<Object> key, Supplier<byte[]> loader) {
+        long version = listingVersion.current();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.version == version
+                && System.currentTimeMillis() - cached.storedAt <= ttlMs) {
+            return cached.body;
+        }
+
+        List<Object> loadKey = List.of(version, key);
+        CompletableFuture<byte[]> load = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = loading.putIfAbsent(loadKey, load);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            byte[] body = loader.get();
+            // A write committed during the load may not be reflected in the body
+            if (body != null && version == listingVersion.current()) {
+                store(key, new Entry(body, startedAt, version));
+            }
+            load.complete(body);
+            return body;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(loadKey, load);
+        }
+    }
+
+    private void store(List<Object> key, Entry entry) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            // Make room by dropping the oldest response
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(existing -> existing.getValue().storedAt))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey()));
+        }
+        entries.put(key, entry);
+    }
+
+    private static final class Entry {
+        final byte[] body;
+        final long storedAt;
+        final long version;
+
+        Entry(byte[] body, long storedAt, long version) {
+            this.body = body;
+            this.storedAt = storedAt;
+            this.version = version;
+        }
+    }
+}
\ No newline at end of file
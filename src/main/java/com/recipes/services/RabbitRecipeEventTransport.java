@@ -0,0 +1,73 @@
+package com.recipes.services;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.entities.OutboxEvent;
+
+// Sends a batch on one channel, then waits for the publisher confirms of the whole batch.
+// Needs spring.rabbitmq.publisher-confirm-type=simple.
+@Component
+public class RabbitRecipeEventTransport implements RecipeEventTransport {
+
+    @Autowired
+    RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${app.outbox.relay.confirm-timeout-ms:5000}")
+    long confirmTimeoutMs = 5000;
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : events) {
+                List<String> payloads = payloads(event);
+                for (int i = 0; i < payloads.size(); i++) {
+                    Message message = MessageBuilder.withBody(payloads.get(i).getBytes(StandardCharsets.UTF_8))
+                            .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                            .setContentEncoding(StandardCharsets.UTF_8.name())
+                            .setMessageId(event.isBatch() ? event.getId() + "-" + i : String.valueOf(event.getId()))
+                            // Lets the worker measure lag from the recipe write, including time in the outbox
+                            .setTimestamp(Date.from(event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()))
+                            .build();
+                    // Default exchange: the routing key is the queue name, as before the outbox
+                    operations.send("", event.getRoutingKey(), message);
+                }
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+    }
+
+    // Message bodies of an outbox row: the payload itself, or each element of a batch payload
+    List<String> payloads(OutboxEvent event) {
+        if (!event.isBatch()) {
+            return List.of(event.getPayload());
+        }
+        try {
+            List<String> payloads = new ArrayList<>();
+            for (JsonNode element : objectMapper.readTree(event.getPayload())) {
+                payloads.add(element.toString());
+            }
+            return payloads;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read batch outbox event " + event.getId(), e);
+        }
+    }
+}
\ No newline at end of file
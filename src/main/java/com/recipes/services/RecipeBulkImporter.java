@@ -0,0 +1,84 @@
+package com.recipes.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.events.RecipeEvent;
+import com.recipes.payload.request.RecipeRequest;
+import com.recipes.repositories.ChefRepository;
+import com.recipes.repositories.RecipeRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Creates many DRAFT recipes for one chef in a single transaction.
+ *
+ * Recipes are persisted in chunks of {@code app.recipes.bulk.chunk-size}: each chunk is flushed
+ * as JDBC batches (hibernate.jdbc.batch_size with ordered inserts), its recipe.created events are
+ * recorded as one outbox row, and the persistence context is cleared so memory stays flat however
+ * many recipes the request carries. Drafts are not searchable, so the search index is untouched.
+ */
+@Service
+public class RecipeBulkImporter {
+
+    private static final List<String> CREATED_FIELDS = List.of(
+            RecipeEvent.TITLE, RecipeEvent.SUMMARY, RecipeEvent.INGREDIENTS, RecipeEvent.STEPS, RecipeEvent.LABELS);
+
+    @Autowired
+    RecipeRepository recipeRepository;
+
+    @Autowired
+    ChefRepository chefRepository;
+
+    @Autowired
+    RecipeEventOutbox recipeEventOutbox;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Value("${app.recipes.bulk.chunk-size:50}")
+    int chunkSize = 50;
+
+    // Returns the ids of the created recipes, in request order
+    @Transactional
+    public List<UUID> importRecipes(UUID authorId, List<RecipeRequest> recipeRequests) {
+        List<UUID> ids = new ArrayList<>(recipeRequests.size());
+        for (int start = 0; start < recipeRequests.size(); start += chunkSize) {
+            List<RecipeRequest> chunk = recipeRequests.subList(start, Math.min(start + chunkSize, recipeRequests.size()));
+            // The reference is detached by the clear below, so take a fresh one per chunk
+            Chef author = chefRepository.getReferenceById(authorId);
+
+            List<Recipe> recipes = new ArrayList<>(chunk.size());
+            for (RecipeRequest recipeRequest : chunk) {
+                Recipe recipe = new Recipe(recipeRequest.getTitle(), author);
+                recipe.setSummary(recipeRequest.getSummary());
+                recipe.setIngredients(recipeRequest.getIngredients());
+                recipe.setSteps(recipeRequest.getSteps());
+                recipe.setLabels(recipeRequest.getLabels() != null ? recipeRequest.getLabels() : new ArrayList<>());
+                recipe.setStatus(Recipe.RecipeStatus.DRAFT);
+                recipes.add(recipe);
+            }
+            recipeRepository.saveAll(recipes);
+
+            List<RecipeEvent> events = new ArrayList<>(recipes.size());
+            for (Recipe recipe : recipes) {
+                ids.add(recipe.getId());
+                events.add(new RecipeEvent(recipe.getId(), authorId, recipe.getRevision(), CREATED_FIELDS));
+            }
+            recipeEventOutbox.recordAll("recipe.created", events);
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return ids;
+    }
+}
\ No newline at end of file
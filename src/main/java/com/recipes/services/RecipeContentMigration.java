@@ -0,0 +1,150 @@
+package com.recipes.services;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.recipes.entities.RecipeContent;
+import com.recipes.entities.RecipeContentConverter;
+import com.recipes.entities.SearchText;
+import com.recipes.repositories.JdbcUuids;
+
+/**
+ * Copies recipe lists from the old recipe_ingredients, recipe_steps, recipe_labels and
+ * recipe_images tables into the recipes.content column.
+ *
+ * Runs at startup, before the search index is built, for recipes whose content is still null
+ * (the column is added empty by schema update). Does nothing once every recipe is migrated or
+ * when the old tables do not exist. The old tables are left in place and can be dropped after
+ * a successful run.
+ *
+ * Also fills recipes.search_text (the search terms keyword queries match, see SearchText) for
+ * recipes written before that column existed or in an older format of it.
+ */
+@Component
+public class RecipeContentMigration implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeContentMigration.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${app.migration.recipe-content.enabled:true}")
+    boolean enabled = true;
+
+    private final RecipeContentConverter converter = new RecipeContentConverter();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            if (tableExists("recipe_ingredients")) {
+                migrate();
+            }
+            fillSearchText();
+        }
+    }
+
+    public int migrate() {
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+        int migrated = 0;
+        List<Object[]> rows;
+        do {
+            // Ids are kept as the driver returns them (binary on MySQL) and bound back unchanged
+            rows = jdbcTemplate.query("SELECT id, title, summary FROM recipes WHERE content IS NULL LIMIT " + BATCH_SIZE,
+                    (row, rowNum) -> new Object[] {row.getObject(1), row.getString(2), row.getString(3)});
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Object> ids = rows.stream().map(row -> row[0]).toList();
+
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+            Map<UUID, List<String>> ingredients = load(named, "recipe_ingredients", "ingredient", params);
+            Map<UUID, List<String>> steps = load(named, "recipe_steps", "step", params);
+            Map<UUID, List<String>> labels = load(named, "recipe_labels", "label", params);
+            Map<UUID, List<String>> imageUrls = load(named, "recipe_images", "image_url", params);
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                UUID recipeId = JdbcUuids.toUuid(row[0]);
+                RecipeContent content = new RecipeContent(ingredients.get(recipeId), steps.get(recipeId),
+                        labels.get(recipeId), imageUrls.get(recipeId));
+                String searchText = SearchText.of(SearchText.fields((String) row[1], (String) row[2], content));
+                updates.add(new Object[] {converter.convertToDatabaseColumn(content), searchText, row[0]});
+            }
+            jdbcTemplate.batchUpdate("UPDATE recipes SET content = ?, search_text = ? WHERE id = ?", updates);
+            migrated += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+
+        if (migrated > 0) {
+            logger.info("Moved the lists of {} recipes into recipes.content; the recipe_ingredients, recipe_steps, " +
+                    "recipe_labels and recipe_images tables are no longer used", migrated);
+        }
+        return migrated;
+    }
+
+    // Fills search_text where it is missing or in an older format (values of the current format start with a space)
+    public int fillSearchText() {
+        int filled = 0;
+        List<Object[]> updates;
+        do {
+            // The id is bound back as the driver returned it, whatever the column type
+            updates = jdbcTemplate.query("SELECT id, title, summary, content FROM recipes " +
+                            "WHERE search_text IS NULL OR search_text NOT LIKE ' %' LIMIT " + BATCH_SIZE,
+                    (row, rowNum) -> new Object[] {SearchText.of(SearchText.fields(row.getString(2), row.getString(3),
+                            converter.convertToEntityAttribute(row.getString(4)))), row.getObject(1)});
+            if (updates.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE recipes SET search_text = ? WHERE id = ?", updates);
+            filled += updates.size();
+        } while (updates.size() == BATCH_SIZE);
+
+        if (filled > 0) {
+            logger.info("Filled recipes.search_text for {} recipes", filled);
+        }
+        return filled;
+    }
+
+    // Rows of an old collection table grouped by recipe id, in table order
+    private Map<UUID, List<String>> load(NamedParameterJdbcTemplate named, String table, String column, MapSqlParameterSource params) {
+        Map<UUID, List<String>> values = new HashMap<>();
+        if (!tableExists(table)) {
+            return values;
+        }
+        named.query("SELECT recipe_id, " + column + " FROM " + table + " WHERE recipe_id IN (:ids)", params, row -> {
+            values.computeIfAbsent(JdbcUuids.read(row, 1), id -> new ArrayList<>()).add(row.getString(2));
+        });
+        return values;
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : new String[] {table, table.toUpperCase()}) {
+                try (ResultSet tables = metaData.getTables(null, null, name, new String[] {"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
\ No newline at end of file
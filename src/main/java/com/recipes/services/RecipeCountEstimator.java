@@ -0,0 +1,91 @@
+package com.recipes.services;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Cached listing totals for with_total=estimate. A stale count is still served while a single
+// background refresh recomputes it, so requests only pay for a COUNT the first time a filter is seen.
+@Component
+public class RecipeCountEstimator {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeCountEstimator.class);
+
+    @Value("${app.listing.count-estimate.ttl-ms:30000}")
+    long ttlMs = 30000;
+
+    @Value("${app.listing.count-estimate.max-entries:1000}")
+    int maxEntries = 1000;
+
+    private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor refresher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(100), runnable -> {
+                Thread thread = new Thread(runnable, "recipe-count-estimator");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public long estimate(String key, LongSupplier exactCount) {
+        Estimate current = estimates.get(key);
+        if (current == null) {
+            long count = exactCount.getAsLong();
+            store(key, count);
+            return count;
+        }
+
+        if (System.currentTimeMillis() - current.computedAt > ttlMs && current.refreshing.compareAndSet(false, true)) {
+            try {
+                refresher.execute(() -> {
+                    try {
+                        store(key, exactCount.getAsLong());
+                    } catch (RuntimeException e) {
+                        logger.error("Cannot refresh recipe count estimate: {}", e.getMessage());
+                        current.refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                current.refreshing.set(false);
+            }
+        }
+        return current.count;
+    }
+
+    private void store(String key, long count) {
+        if (estimates.size() >= maxEntries && !estimates.containsKey(key)) {
+            // Make room by dropping the oldest estimate
+            estimates.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().computedAt))
+                    .ifPresent(oldest -> estimates.remove(oldest.getKey()));
+        }
+        estimates.put(key, new Estimate(count, System.currentTimeMillis()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static final class Estimate {
+        final long count;
+        final long computedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        Estimate(long count, long computedAt) {
+            this.count = count;
+            this.computedAt = computedAt;
+        }
+    }
+}
\ No newline at end of file
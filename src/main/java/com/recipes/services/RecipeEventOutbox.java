@@ -0,0 +1,47 @@
+package com.recipes.services;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.entities.OutboxEvent;
+import com.recipes.repositories.OutboxEventRepository;
+
+// Records recipe events in the outbox table. Must run inside the transaction that writes the recipe,
+// so an event exists exactly when its change was committed; OutboxRelay publishes it afterwards.
+@Service
+public class RecipeEventOutbox {
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String routingKey, Object payload) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(routingKey, objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + routingKey + " event", e);
+        }
+    }
+
+    // Records a chunk of events as one outbox row; the relay still publishes one message per event
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(String routingKey, List<?> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        try {
+            outboxEventRepository.save(new OutboxEvent(routingKey, objectMapper.writeValueAsString(payloads), true));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + routingKey + " events", e);
+        }
+    }
+}
\ No newline at end of file
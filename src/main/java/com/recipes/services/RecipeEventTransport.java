@@ -0,0 +1,12 @@
+package com.recipes.services;
+
+import java.util.List;
+
+import com.recipes.entities.OutboxEvent;
+
+// Where OutboxRelay publishes recipe events
+public interface RecipeEventTransport {
+
+    // Publishes the events in order and returns once the broker confirmed all of them; throws otherwise
+    void publish(List<OutboxEvent> events);
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.recipes.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.recipes.entities.RecipeContent;
+import com.recipes.entities.RecipeContentConverter;
+import com.recipes.payload.response.ChefResponse;
+import com.recipes.payload.response.RecipeResponse;
+import com.recipes.repositories.JdbcUuids;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Writes every PUBLISHED recipe as newline-delimited JSON, one RecipeResponse per line.
+ *
+ * Rows come from one forward-only, read-only query with a fixed fetch size and are written as
+ * they are read, so memory use does not depend on the size of the catalog. Rows are ordered by
+ * updatedAt then id; a client syncs incrementally by passing the updatedAt of the last line it
+ * received as the next updatedSince (inclusive, so that recipe comes again).
+ */
+@Service
+public class RecipeExporter {
+
+    private static final String EXPORT_SQL =
+            "SELECT r.id, r.title, r.summary, r.content, r.status, r.published_at, r.created_at, r.updated_at, " +
+            "c.id, c.handle, c.name, c.email, c.verified, c.created_at, c.updated_at " +
+            "FROM recipes r JOIN chefs c ON c.id = r.author_id " +
+            "WHERE r.status = 'PUBLISHED' AND r.updated_at >= ? " +
+            "ORDER BY r.updated_at, r.id";
+
+    // Lower bound used when no watermark is given
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:500}")
+    int fetchSize = 500;
+
+    @Value("${app.export.max-concurrent:4}")
+    int maxConcurrent = 4;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void createPermits() {
+        permits = new Semaphore(maxConcurrent);
+    }
+
+    private final RecipeContentConverter contentConverter = new RecipeContentConverter();
+
+    // Each export holds a database connection for its whole run, so only a few may run at once.
+    // Returns null when all permits are taken.
+    public Permit tryStart() {
+        return permits.tryAcquire() ? new Permit() : null;
+    }
+
+    // Released exactly once, however many of the export's completion paths close it
+    public class Permit implements AutoCloseable {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    // Returns the number of recipes written; the stream is flushed but not closed
+    public long export(LocalDateTime updatedSince, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // Lines are separated by the explicit newline below, not by Jackson's root value separator
+        generator.setRootValueSeparator(null);
+
+        // Inside a read-only transaction, so PostgreSQL uses a cursor and honours the fetch size
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        Long written = transaction.execute(status -> {
+            long[] count = {0};
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setTimestamp(1, Timestamp.valueOf(updatedSince != null ? updatedSince : EARLIEST));
+                return statement;
+            }, row -> {
+                try {
+                    writer.writeValue(generator, toResponse(row));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    // The client went away; stop reading rows
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            return count[0];
+        });
+        generator.flush();
+        return written != null ? written : 0;
+    }
+
+    private RecipeResponse toResponse(ResultSet row) throws SQLException {
+        ChefResponse author = new ChefResponse(
+                JdbcUuids.read(row, 9),
+                row.getString(10),
+                row.getString(11),
+                row.getString(12),
+                row.getBoolean(13),
+                toLocalDateTime(row.getTimestamp(14)),
+                toLocalDateTime(row.getTimestamp(15)));
+
+        RecipeContent content = contentConverter.convertToEntityAttribute(row.getString(4));
+        return new RecipeResponse(
+                JdbcUuids.read(row, 1),
+                row.getString(2),
+                row.getString(3),
+                content.getIngredients(),
+                content.getSteps(),
+                content.getLabels(),
+                content.getImageUrls(),
+                row.getString(5),
+                toLocalDateTime(row.getTimestamp(6)),
+                author,
+                toLocalDateTime(row.getTimestamp(7)),
+                toLocalDateTime(row.getTimestamp(8)));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
\ No newline at end of file
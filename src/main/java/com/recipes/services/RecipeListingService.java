@@ -0,0 +1,95 @@
+package com.recipes.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import com.recipes.entities.Recipe;
+import com.recipes.entities.Recipe.RecipeStatus;
+import com.recipes.repositories.RecipeListingFilter;
+import com.recipes.repositories.RecipeRepository;
+
+@Service
+public class RecipeListingService {
+
+    @Autowired
+    RecipeRepository recipeRepository;
+
+    @Autowired
+    RecipeCountEstimator countEstimator;
+
+    // How listing totals are computed, from the with_total request parameter
+    public enum TotalMode {
+        NONE, EXACT, ESTIMATE;
+
+        // Returns null for unknown values
+        public static TotalMode parse(String value) {
+            switch (value.toLowerCase(Locale.ROOT)) {
+                case "false":
+                    return NONE;
+                case "exact":
+                    return EXACT;
+                case "estimate":
+                    return ESTIMATE;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    // Offset page of PUBLISHED recipes. Returns a Page (with a COUNT query) when withCount is set,
+    // otherwise a Slice that only knows whether a next page exists. Null filters are not applied.
+    public Slice<Recipe> findPublished(String keyword, List<UUID> authorIds, LocalDateTime fromDate,
+                                       LocalDateTime toDate, Pageable pageable, boolean withCount) {
+        RecipeListingFilter filter = filter(keyword, authorIds, fromDate, toDate);
+        return withCount ? recipeRepository.findAll(filter, pageable) : recipeRepository.findSlice(filter, pageable);
+    }
+
+    // Cached total for the same filters as findPublished, refreshed in the background once stale
+    public long estimatePublished(String keyword, List<UUID> authorIds, LocalDateTime fromDate, LocalDateTime toDate) {
+        String key = estimateKey(keyword, authorIds, fromDate, toDate);
+
+        // A one-row page still runs the COUNT query whenever anything matches
+        return countEstimator.estimate(key, () ->
+                ((Page<Recipe>) findPublished(keyword, authorIds, fromDate, toDate, PageRequest.of(0, 1), true)).getTotalElements());
+    }
+
+    // Helper method to build the estimate cache key. Author ids are listed in full, sorted and without
+    // duplicates, so the key names the same filters whatever their order; the free-text keyword goes
+    // last so a "|" in it cannot shift the other parts.
+    static String estimateKey(String keyword, List<UUID> authorIds, LocalDateTime fromDate, LocalDateTime toDate) {
+        String authors = authorIds == null ? "*" : authorIds.stream()
+                .distinct()
+                .sorted()
+                .map(UUID::toString)
+                .collect(Collectors.joining(","));
+        return fromDate + "|" + toDate + "|" + authors + "|" + (keyword != null ? keyword.toLowerCase(Locale.ROOT) : "");
+    }
+
+    // Next page of PUBLISHED recipes after the cursor, using a seek predicate instead of OFFSET.
+    // Null filters are not applied.
+    public Slice<Recipe> findPublishedAfter(PageCursor cursor, String keyword, List<UUID> authorIds,
+                                            LocalDateTime fromDate, LocalDateTime toDate, int size) {
+        RecipeListingFilter filter = filter(keyword, authorIds, fromDate, toDate)
+                .before(cursor.getCreatedAt(), cursor.getId());
+        return recipeRepository.findSlice(filter, PageRequest.of(0, size, RecipeListingFilter.NEWEST_FIRST));
+    }
+
+    // Helper method to build the filter shared by every listing of PUBLISHED recipes
+    private static RecipeListingFilter filter(String keyword, List<UUID> authorIds, LocalDateTime fromDate,
+                                              LocalDateTime toDate) {
+        return RecipeListingFilter.withStatus(RecipeStatus.PUBLISHED)
+                .keyword(keyword)
+                .authors(authorIds)
+                .createdBetween(fromDate, toDate);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.recipes.services;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.recipes.entities.ListingVersion;
+import com.recipes.repositories.ListingVersionRepository;
+
+// Version of what the recipe listings show, bumped by every transaction that publishes a recipe or
+// changes or deletes a published one. Listing ETags and cached listing bodies are derived from it.
+// The version is a counter row in the database (listing_versions), so all instances agree on it. It
+// is incremented in a short transaction of its own once the writing transaction commits: bumping it
+// inside the write would hold the row lock until the write commits and serialize all recipe writes.
+// A process that stops between the two leaves the change uncounted until the next one. Each instance re-reads the row at most every
+// app.listing.version.refresh-ms and right after its own writes commit, so checking whether a
+// listing changed costs no query per request; another instance's write is seen within refresh-ms.
+@Component
+public class RecipeListingVersion {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeListingVersion.class);
+
+    // Null when used without a database; the version is then process-local
+    @Autowired
+    ListingVersionRepository listingVersionRepository;
+
+    @Value("${app.listing.version.refresh-ms:1000}")
+    long refreshMs = 1000;
+
+    // Differs per database (or per process without one), so ETags handed out before a reset never match afterwards
+    private volatile String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile long refreshedAt;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    @PostConstruct
+    public void start() {
+        if (listingVersionRepository == null) {
+            return;
+        }
+        if (!listingVersionRepository.existsById(ListingVersion.ID)) {
+            try {
+                listingVersionRepository.save(new ListingVersion(epoch));
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created the row at the same time
+            }
+        }
+        refresh();
+    }
+
+    public long current() {
+        if (listingVersionRepository != null && System.currentTimeMillis() - refreshedAt >= refreshMs
+                && refreshing.compareAndSet(false, true)) {
+            try {
+                refresh();
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return version.get();
+    }
+
+    // Bump the process-local version; used without a database
+    public void changed() {
+        version.incrementAndGet();
+    }
+
+    // Count a change in the current transaction once it commits; a rolled-back change is not counted
+    public void changedAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterChange();
+                }
+            });
+        } else {
+            afterChange();
+        }
+    }
+
+    private void afterChange() {
+        if (listingVersionRepository != null) {
+            try {
+                listingVersionRepository.increment();
+            } catch (RuntimeException e) {
+                // The change itself is committed; other instances see it with the next counted change
+                logger.error("Cannot count listing change: {}", e.getMessage());
+            }
+            refresh();
+        } else {
+            changed();
+        }
+    }
+
+    private void refresh() {
+        List<Object[]> rows = listingVersionRepository.findEpochAndVersion();
+        if (!rows.isEmpty()) {
+            String rowEpoch = (String) rows.get(0)[0];
+            long rowVersion = ((Number) rows.get(0)[1]).longValue();
+            if (rowEpoch.equals(epoch)) {
+                version.accumulateAndGet(rowVersion, Math::max);
+            } else {
+                version.set(rowVersion);
+                epoch = rowEpoch;
+            }
+        }
+        refreshedAt = System.currentTimeMillis();
+    }
+
+    // Strong ETag for a listing at the current version; parts narrow it to one reader's view
+    public String etag(Object... parts) {
+        long current = current();
+        String etag = epoch + "-" + current;
+        if (parts.length > 0) {
+            etag += "-" + Integer.toHexString(Arrays.hashCode(parts));
+        }
+        return "\"" + etag + "\"";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.recipes.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.payload.response.ChefResponse;
+import com.recipes.payload.response.RecipeResponse;
+import com.recipes.repositories.ChefRepository;
+
+// Builds RecipeResponse lists for a page of recipes without touching the lazy author of each
+// recipe: authors are loaded with one IN query, and the recipe lists come with the recipe row,
+// so a page costs the same number of statements whatever its size.
+@Service
+public class RecipeResponseAssembler {
+
+    @Autowired
+    ChefRepository chefRepository;
+
+    @Autowired
+    ResponseFragmentCache fragmentCache;
+
+    @Transactional(readOnly = true)
+    public List<RecipeResponse> toResponses(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<UUID, Chef> authors = loadAuthors(recipes);
+
+        List<RecipeResponse> responses = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            Chef author = authors.get(recipe.getAuthor().getId());
+            responses.add(toResponse(recipe, author != null ? toAuthorResponse(author) : null));
+        }
+        return responses;
+    }
+
+    // Same JSON as toResponses, but recipes and authors saved since their last listing are the only ones serialized
+    @Transactional(readOnly = true)
+    public List<ResponseFragmentCache.RecipeFragment> toFragments(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<UUID, Chef> authors = loadAuthors(recipes);
+
+        List<ResponseFragmentCache.RecipeFragment> fragments = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            UUID authorId = recipe.getAuthor().getId();
+            Chef author = authors.get(authorId);
+            fragments.add(fragmentCache.recipe(
+                    recipe.getId(), recipe.getUpdatedAt(), () -> toResponse(recipe, null),
+                    authorId, author != null ? author.getUpdatedAt() : null,
+                    () -> author != null ? toAuthorResponse(author) : null));
+        }
+        return fragments;
+    }
+
+    // Helper method to load the authors of a page with one IN query
+    private Map<UUID, Chef> loadAuthors(List<Recipe> recipes) {
+        Set<UUID> authorIds = new LinkedHashSet<>();
+        for (Recipe recipe : recipes) {
+            // Reading the id of a lazy author does not initialize it
+            authorIds.add(recipe.getAuthor().getId());
+        }
+
+        Map<UUID, Chef> authors = new HashMap<>();
+        for (Chef author : chefRepository.findAllById(authorIds)) {
+            authors.put(author.getId(), author);
+        }
+        return authors;
+    }
+
+    private static ChefResponse toAuthorResponse(Chef author) {
+        return new ChefResponse(
+                author.getId(),
+                author.getHandle(),
+                author.getName(),
+                author.getEmail(),
+                author.isVerified(),
+                author.getCreatedAt(),
+                author.getUpdatedAt()
+        );
+    }
+
+    private static RecipeResponse toResponse(Recipe recipe, ChefResponse author) {
+        return new RecipeResponse(
+                recipe.getId(),
+                recipe.getTitle(),
+                recipe.getSummary(),
+                recipe.getIngredients(),
+                recipe.getSteps(),
+                recipe.getLabels(),
+                recipe.getImageUrls(),
+                recipe.getStatus().name(),
+                recipe.getPublishedAt(),
+                author,
+                recipe.getCreatedAt(),
+                recipe.getUpdatedAt()
+        );
+    }
+}
\ No newline at end of file
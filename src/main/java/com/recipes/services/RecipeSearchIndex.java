@@ -0,0 +1,499 @@
+package com.recipes.services;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.recipes.entities.Recipe;
+import com.recipes.entities.RecipeContent;
+import com.recipes.entities.SearchText;
+import com.recipes.repositories.JdbcUuids;
+import com.recipes.repositories.RecipeRepository;
+
+/**
+ * In-memory inverted index (term -> sorted posting list of document ids) over PUBLISHED recipes.
+ *
+ * Title, summary, ingredients and steps are split into lower-cased terms (see {@link SearchText}).
+ * A query matches a recipe when every query term is a prefix of one of its terms, as in the SQL
+ * fallback. Results are ordered newest createdAt first, like the database listings. The index is
+ * built when the application is ready and kept current by this instance's recipe write paths once
+ * their transactions commit. Writes made on other instances move the shared listing version; the
+ * next search then catches the index up from the recipes updated since the last catch-up (less
+ * app.search.index.catch-up-overlap-ms, for transactions still open and clock differences). Until
+ * the index is built, and while another request is catching it up, {@link #search} returns null and
+ * callers fall back to the database query.
+ */
+@Component
+public class RecipeSearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeSearchIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    // Same order as the database listings, ties on createdAt included
+    private static final Comparator<Document> NEWEST_FIRST = Comparator
+            .comparing((Document doc) -> doc.createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(doc -> doc.id, JdbcUuids.DATABASE_ORDER.reversed());
+
+    @Autowired
+    RecipeRepository recipeRepository;
+
+    // Null when used without the listing version; the index then only sees this instance's writes
+    @Autowired
+    RecipeListingVersion listingVersion;
+
+    @Value("${app.search.index.enabled:true}")
+    boolean enabled = true;
+
+    @Value("${app.search.index.catch-up-overlap-ms:60000}")
+    long catchUpOverlapMs = 60000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private State state = new State();
+
+    private boolean ready = false;
+
+    // Writes that arrive while a rebuild is loading; replayed onto the new state before it is swapped in
+    private Map<UUID, Document> pendingWrites;
+
+    // Listing version the index reflects, and when the build or catch-up that reached it started
+    private volatile long appliedVersion;
+    private volatile LocalDateTime caughtUpTo;
+
+    private final AtomicBoolean catchingUp = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // Reload the index from all PUBLISHED recipes in the database
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        long version = listingVersion != null ? listingVersion.current() : 0;
+        LocalDateTime loadStarted = LocalDateTime.now();
+
+        lock.writeLock().lock();
+        try {
+            pendingWrites = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State fresh = new State();
+        try {
+            int page = 0;
+            List<Object[]> rows;
+            do {
+                rows = recipeRepository.findSearchDocuments(Recipe.RecipeStatus.PUBLISHED,
+                        PageRequest.of(page++, LOAD_BATCH_SIZE));
+                loadBatch(fresh, rows);
+            } while (rows.size() == LOAD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            logger.error("Cannot build recipe search index: {}", e.getMessage());
+            lock.writeLock().lock();
+            try {
+                pendingWrites = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<UUID, Document> write : pendingWrites.entrySet()) {
+                fresh.remove(write.getKey());
+                if (write.getValue() != null) {
+                    fresh.add(write.getValue());
+                }
+            }
+            pendingWrites = null;
+            state = fresh;
+            appliedVersion = version;
+            caughtUpTo = loadStarted;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Recipe search index built with {} recipes and {} terms in {} ms",
+                fresh.docIds.size(), fresh.postings.size(), System.currentTimeMillis() - started);
+    }
+
+    private void loadBatch(State target, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        for (Object[] row : rows) {
+            target.add(document(row));
+        }
+    }
+
+    // Document of a findSearchDocuments row: id, author id, createdAt, title, summary, content
+    private static Document document(Object[] row) {
+        Set<String> terms = SearchText.terms(SearchText.fields((String) row[3], (String) row[4], (RecipeContent) row[5]));
+        return new Document((UUID) row[0], (UUID) row[1], (LocalDateTime) row[2], terms);
+    }
+
+    // Bring the index up to the shared listing version. Returns false when it is behind and another
+    // request is already catching it up (or the catch-up failed), so the caller falls back to SQL.
+    private boolean catchUp() {
+        if (listingVersion == null) {
+            return true;
+        }
+        long version = listingVersion.current();
+        if (version == appliedVersion) {
+            return true;
+        }
+        if (!catchingUp.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            Map<UUID, Document> changes = new LinkedHashMap<>();
+            for (Object[] row : recipeRepository.findSearchDocumentsUpdatedSince(caughtUpTo.minus(catchUpOverlapMs, ChronoUnit.MILLIS))) {
+                changes.put((UUID) row[0], row[6] == Recipe.RecipeStatus.PUBLISHED ? document(row) : null);
+            }
+            for (Map.Entry<UUID, Document> change : changes.entrySet()) {
+                apply(change.getKey(), change.getValue());
+            }
+
+            // Deleted recipes leave no row behind; more documents than published recipes means some were deleted
+            if (indexedCount() != recipeRepository.countByStatus(Recipe.RecipeStatus.PUBLISHED)) {
+                Set<UUID> published = new HashSet<>(recipeRepository.findIdsByStatus(Recipe.RecipeStatus.PUBLISHED));
+                lock.writeLock().lock();
+                try {
+                    for (UUID id : new ArrayList<>(state.docIds.keySet())) {
+                        if (!published.contains(id)) {
+                            state.remove(id);
+                            if (pendingWrites != null) {
+                                pendingWrites.put(id, null);
+                            }
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            appliedVersion = version;
+            caughtUpTo = started;
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Cannot catch up recipe search index: {}", e.getMessage());
+            return false;
+        } finally {
+            catchingUp.set(false);
+        }
+    }
+
+    private int indexedCount() {
+        lock.readLock().lock();
+        try {
+            return state.docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Add, replace or drop a recipe after it was written; only PUBLISHED recipes are searchable.
+    // Inside a transaction the index changes only once it commits.
+    public void index(Recipe recipe) {
+        if (recipe.getStatus() != Recipe.RecipeStatus.PUBLISHED) {
+            remove(recipe.getId());
+            return;
+        }
+
+        // Terms are taken now, while the recipe is still attached and holds the written values
+        Set<String> terms = SearchText.terms(SearchText.fields(recipe.getTitle(), recipe.getSummary(), recipe.getContent()));
+        Document doc = new Document(recipe.getId(), recipe.getAuthor().getId(), recipe.getCreatedAt(), terms);
+        afterCommit(doc.id, doc);
+    }
+
+    public void remove(UUID recipeId) {
+        afterCommit(recipeId, null);
+    }
+
+    private void afterCommit(UUID recipeId, Document doc) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(recipeId, doc);
+                }
+            });
+        } else {
+            apply(recipeId, doc);
+        }
+    }
+
+    // Replace the recipe's document, or drop it when doc is null
+    private void apply(UUID recipeId, Document doc) {
+        lock.writeLock().lock();
+        try {
+            state.remove(recipeId);
+            if (doc != null) {
+                state.add(doc);
+            }
+            if (pendingWrites != null) {
+                pendingWrites.put(recipeId, doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return ready;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Document slots in use or free for reuse; bounded by the most recipes indexed at once
+    int documentSlots() {
+        lock.readLock().lock();
+        try {
+            return state.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Hits search(String query, Collection<UUID> authorIds, LocalDateTime from, LocalDateTime to,
+                       int offset, int limit) {
+        return search(query, authorIds, from, to, null, offset, limit);
+    }
+
+    /**
+     * Returns the page of matching recipe ids, newest first, and the total number of matches
+     * after the cursor. Null author ids, dates or cursor mean "no filter". Returns null when the
+     * index cannot answer the query (not built yet, or the query contains no searchable terms).
+     */
+    public Hits search(String query, Collection<UUID> authorIds, LocalDateTime from, LocalDateTime to,
+                       PageCursor after, int offset, int limit) {
+        Set<String> queryTerms = SearchText.terms(List.of(query));
+        if (queryTerms.isEmpty() || !isReady() || !catchUp()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+
+            BitSet matches = null;
+            for (String queryTerm : queryTerms) {
+                BitSet termMatches = new BitSet(state.documents.size());
+                for (Postings postings : state.postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).values()) {
+                    postings.addTo(termMatches);
+                }
+                if (matches == null) {
+                    matches = termMatches;
+                } else {
+                    matches.and(termMatches);
+                }
+                if (matches.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+            }
+
+            Document cursorDoc = after != null ? new Document(after.getId(), null, after.getCreatedAt(), Set.of()) : null;
+
+            // Keep only the newest offset + limit matches in a heap whose head is the oldest kept
+            int keep = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+            PriorityQueue<Document> top = new PriorityQueue<>(Math.max(1, Math.min(keep, 1024)), NEWEST_FIRST.reversed());
+            long total = 0;
+            for (int docId = matches.nextSetBit(0); docId >= 0; docId = matches.nextSetBit(docId + 1)) {
+                Document doc = state.documents.get(docId);
+                if (!doc.matches(authorIds, from, to)) {
+                    continue;
+                }
+                if (cursorDoc != null && NEWEST_FIRST.compare(doc, cursorDoc) <= 0) {
+                    continue;
+                }
+                total++;
+                if (top.size() < keep) {
+                    top.add(doc);
+                } else if (keep > 0 && NEWEST_FIRST.compare(doc, top.peek()) < 0) {
+                    top.poll();
+                    top.add(doc);
+                }
+            }
+
+            List<Document> newest = new ArrayList<>(top);
+            newest.sort(NEWEST_FIRST);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = Math.min(offset, newest.size()); i < newest.size(); i++) {
+                ids.add(newest.get(i).id);
+            }
+            return new Hits(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static class Hits {
+        private final List<UUID> ids;
+        private final long total;
+
+        public Hits(List<UUID> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<UUID> getIds() {
+            return ids;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    private static final class Document {
+        final UUID id;
+        final UUID authorId;
+        final LocalDateTime createdAt;
+        final String[] terms;
+
+        Document(UUID id, UUID authorId, LocalDateTime createdAt, Set<String> terms) {
+            this.id = id;
+            this.authorId = authorId;
+            this.createdAt = createdAt;
+            this.terms = terms.toArray(new String[0]);
+        }
+
+        boolean matches(Collection<UUID> authorIds, LocalDateTime from, LocalDateTime to) {
+            if (authorIds != null && !authorIds.contains(authorId)) {
+                return false;
+            }
+            if (from != null && (createdAt == null || createdAt.isBefore(from))) {
+                return false;
+            }
+            return to == null || (createdAt != null && !createdAt.isAfter(to));
+        }
+    }
+
+    // Sorted, growable int array; new document ids are appended, reused ones inserted in place
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            if (size == 0 || docs[size - 1] < docId) {
+                docs[size++] = docId;
+                return;
+            }
+            int pos = Arrays.binarySearch(docs, 0, size, docId);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            System.arraycopy(docs, pos, docs, pos + 1, size - pos);
+            docs[pos] = docId;
+            size++;
+        }
+
+        void remove(int docId) {
+            int pos = Arrays.binarySearch(docs, 0, size, docId);
+            if (pos >= 0) {
+                System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+                size--;
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bits) {
+            for (int i = 0; i < size; i++) {
+                bits.set(docs[i]);
+            }
+        }
+    }
+
+    private static final class State {
+        final NavigableMap<String, Postings> postings = new TreeMap<>();
+        final Map<UUID, Integer> docIds = new HashMap<>();
+        // Indexed by document id; the slot of a removed document is reused by the next add, so
+        // edits do not grow the list (or the per-term bit sets sized from it)
+        final List<Document> documents = new ArrayList<>();
+        final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+        void add(Document doc) {
+            Integer free = freeSlots.poll();
+            int docId;
+            if (free != null) {
+                docId = free;
+                documents.set(docId, doc);
+            } else {
+                docId = documents.size();
+                documents.add(doc);
+            }
+            docIds.put(doc.id, docId);
+            for (String term : doc.terms) {
+                postings.computeIfAbsent(term, t -> new Postings()).add(docId);
+            }
+        }
+
+        void remove(UUID id) {
+            Integer docId = docIds.remove(id);
+            if (docId == null) {
+                return;
+            }
+            Document doc = documents.set(docId, null);
+            freeSlots.push(docId);
+            for (String term : doc.terms) {
+                Postings termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(docId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
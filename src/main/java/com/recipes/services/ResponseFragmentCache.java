@@ -0,0 +1,131 @@
+package com.recipes.services;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.recipes.payload.response.ChefResponse;
+import com.recipes.payload.response.RecipeResponse;
+
+/**
+ * Serialized JSON of recipes and recipe authors, kept as UTF-8 bytes between requests.
+ *
+ * A recipe's fields (everything but the author) are cached by recipe id and updatedAt, and an
+ * author by chef id and updatedAt, so an entry is rebuilt exactly when the entity was saved since.
+ * Listings return {@link RecipeFragment}s, which Jackson writes by copying those bytes into its
+ * output buffer; the author fragment is shared by all of a chef's recipes.
+ */
+@Component
+public class ResponseFragmentCache {
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${app.listing.fragment-cache.max-entries:20000}")
+    int maxEntries = 20000;
+
+    private final Map<UUID, Fragment> recipes = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Fragment> chefs = new ConcurrentHashMap<>();
+
+    // The response is only built when the cached fragment is missing or older than updatedAt
+    public RecipeFragment recipe(UUID recipeId, LocalDateTime recipeUpdatedAt, Supplier<RecipeResponse> recipe,
+                                 UUID authorId, LocalDateTime authorUpdatedAt, Supplier<ChefResponse> author) {
+        SerializableString authorJson = get(chefs, authorId, authorUpdatedAt, () -> serialize(author.get()));
+        SerializableString fieldsJson = get(recipes, recipeId, recipeUpdatedAt, () -> fieldsWithoutAuthor(recipe.get()));
+        return new RecipeFragment(authorJson, fieldsJson);
+    }
+
+    private SerializableString get(Map<UUID, Fragment> fragments, UUID id, LocalDateTime version,
+                                   Supplier<String> json) {
+        Fragment cached = fragments.get(id);
+        if (cached != null && cached.version != null && cached.version.equals(version)) {
+            return cached.json;
+        }
+
+        SerializedString serialized = new SerializedString(json.get());
+        // Encode once now; every later write copies these bytes
+        serialized.asUnquotedUTF8();
+        if (fragments.size() >= maxEntries && !fragments.containsKey(id)) {
+            // Make room by dropping an arbitrary fragment; rebuilding one is cheap
+            Iterator<UUID> ids = fragments.keySet().iterator();
+            if (ids.hasNext()) {
+                fragments.remove(ids.next());
+            }
+        }
+        fragments.put(id, new Fragment(version, serialized));
+        return serialized;
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    // Helper method to render the recipe's fields without the surrounding braces and the author
+    private String fieldsWithoutAuthor(RecipeResponse response) {
+        ObjectNode fields = objectMapper.valueToTree(response);
+        fields.remove("author");
+        String json = serialize(fields);
+        return json.substring(1, json.length() - 1);
+    }
+
+    private static final class Fragment {
+        final LocalDateTime version;
+        final SerializedString json;
+
+        Fragment(LocalDateTime version, SerializedString json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+
+    // A RecipeResponse as written to JSON, assembled from cached fragments
+    public static final class RecipeFragment extends JsonSerializable.Base {
+        private final SerializableString author;
+        private final SerializableString fields;
+
+        RecipeFragment(SerializableString author, SerializableString fields) {
+            this.author = author;
+            this.fields = fields;
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            // Raw output bypasses the generator's separator tracking, so the author goes first as
+            // a regular field and the raw fields follow after an explicit comma
+            gen.writeFieldName("author");
+            gen.writeRawValue(author);
+            gen.writeRaw(',');
+            gen.writeRaw(fields);
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, serializers);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.recipes.services;
+
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.recipes.entities.Chef;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hooks around the Hibernate second-level cache (Caffeine through JCache, see hibernate-cache.conf).
+ *
+ * Entity saves keep the cache current by themselves. Statements that bypass the entity, such as the
+ * chef counter updates, evict the rows they touched through this class. Hit, miss, put and
+ * eviction counts of every region are published as cache.* metrics with cacheManager=hibernate;
+ * Hibernate's own statistics appear as hibernate.* metrics.
+ */
+@Component
+public class SecondLevelCache implements MeterBinder {
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    // Evict now, and again after commit so a concurrent reader cannot re-cache the old row in between
+    public void evictChefs(UUID... chefIds) {
+        evict(chefIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(chefIds);
+                }
+            });
+        }
+    }
+
+    private void evict(UUID[] chefIds) {
+        for (UUID chefId : chefIds) {
+            entityManagerFactory.getCache().evict(Chef.class, chefId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        // Not a JCache region factory when the second-level cache is switched off
+        if (!(regionFactory instanceof JCacheRegionFactory jcacheRegionFactory)) {
+            return;
+        }
+        CacheManager cacheManager = jcacheRegionFactory.getCacheManager();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            JCacheMetrics.monitor(registry, cacheManager.getCache(cacheName), Tags.of("cacheManager", "hibernate"));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package com.recipes.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.recipes.entities.Recipe;
+import com.recipes.repositories.RecipeListingFilter;
+import com.recipes.repositories.ChefRepository;
+import com.recipes.repositories.JdbcUuids;
+import com.recipes.repositories.RecipeRepository;
+import com.recipes.repositories.TimelineRepository;
+
+/**
+ * Home timelines of followed-chef recipes (hybrid fan-out).
+ *
+ * When a chef publishes, the worker pushes the recipe into the chef_timeline rows of each follower,
+ * unless the chef has more than app.timeline.fanout-max-followers followers. Recipes of those chefs
+ * are pulled at read time and merged into the timeline. Timelines keep the newest
+ * app.timeline.max-entries recipes per follower; the worker trims older rows.
+ *
+ * The worker must use the API database for this to work, so timelines are off unless
+ * app.timeline.enabled (and worker.timeline.enabled in the worker) is set.
+ */
+@Service
+public class TimelineService {
+
+    private static final Comparator<Item> NEWEST_FIRST = Comparator
+            .comparing((Item item) -> item.createdAt, Comparator.reverseOrder())
+            .thenComparing(item -> item.recipeId, JdbcUuids.DATABASE_ORDER.reversed());
+
+    // Stand-ins for missing date filters; the timeline queries always bound created_at
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    TimelineRepository timelineRepository;
+
+    @Autowired
+    ChefRepository chefRepository;
+
+    @Autowired
+    RecipeRepository recipeRepository;
+
+    @Autowired
+    RecipeListingService recipeListingService;
+
+    @Value("${app.timeline.enabled:false}")
+    boolean enabled = false;
+
+    @Value("${app.timeline.fanout-max-followers:10000}")
+    long fanoutMaxFollowers = 10000;
+
+    @Value("${app.timeline.max-entries:800}")
+    int maxEntries = 800;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Copy the chef's newest recipes into the new follower's timeline
+    @Transactional
+    public void onFollow(UUID followerId, UUID chefId) {
+        if (!enabled || isPulled(chefId)) {
+            return;
+        }
+        timelineRepository.backfill(followerId, chefId, maxEntries);
+    }
+
+    @Transactional
+    public void onUnfollow(UUID followerId, UUID chefId) {
+        if (enabled) {
+            timelineRepository.deleteByFollowerIdAndAuthorId(followerId, chefId);
+        }
+    }
+
+    // Offset page of the follower's timeline. Returns a Page with totals when withCount is set.
+    @Transactional(readOnly = true)
+    public Slice<Recipe> find(UUID followerId, List<UUID> followedChefIds, LocalDateTime fromDate, LocalDateTime toDate,
+                              Pageable pageable, boolean withCount) {
+        int offset = (int) pageable.getOffset();
+        List<Recipe> recipes = new ArrayList<>();
+        boolean hasNext = read(followerId, followedChefIds, fromDate, toDate, null, offset, pageable.getPageSize(), recipes);
+
+        if (withCount) {
+            long total = count(followerId, followedChefIds, fromDate, toDate);
+            return new PageImpl<>(recipes, pageable, Math.max(total, offset + recipes.size() + (hasNext ? 1 : 0)));
+        }
+        return new SliceImpl<>(recipes, pageable, hasNext);
+    }
+
+    // Next page of the follower's timeline after the cursor
+    @Transactional(readOnly = true)
+    public Slice<Recipe> findAfter(UUID followerId, List<UUID> followedChefIds, LocalDateTime fromDate, LocalDateTime toDate,
+                                   PageCursor cursor, int size) {
+        List<Recipe> recipes = new ArrayList<>();
+        boolean hasNext = read(followerId, followedChefIds, fromDate, toDate, cursor, 0, size, recipes);
+        return new SliceImpl<>(recipes, PageRequest.of(0, size), hasNext);
+    }
+
+    // Merges the pushed timeline rows with the recipes pulled from high-follower chefs, newest first,
+    // and adds the requested page to recipes. Returns whether more recipes follow the page.
+    private boolean read(UUID followerId, List<UUID> followedChefIds, LocalDateTime fromDate, LocalDateTime toDate,
+                         PageCursor cursor, int offset, int size, List<Recipe> recipes) {
+        LocalDateTime from = fromDate != null ? fromDate : EARLIEST;
+        LocalDateTime to = toDate != null ? toDate : LATEST;
+        // One extra item tells whether there is a next page
+        Pageable wanted = PageRequest.of(0, offset + size + 1);
+
+        List<Object[]> pushed = cursor == null
+                ? timelineRepository.findEntries(followerId, from, to, wanted)
+                : timelineRepository.findEntriesBeforeCursor(followerId, from, to, cursor.getCreatedAt(), cursor.getId(), wanted);
+
+        List<UUID> pulledChefIds = pulledChefIds(followedChefIds);
+        List<Recipe> pulled = new ArrayList<>();
+        if (!pulledChefIds.isEmpty()) {
+            pulled = cursor == null
+                    ? recipeListingService.findPublished(null, pulledChefIds, fromDate, toDate,
+                            PageRequest.of(0, wanted.getPageSize(), RecipeListingFilter.NEWEST_FIRST),
+                            false).getContent()
+                    : recipeListingService.findPublishedAfter(cursor, null, pulledChefIds, fromDate, toDate,
+                            wanted.getPageSize()).getContent();
+        }
+
+        // A chef that crossed the follower limit can have recipes in both lists
+        Map<UUID, Item> merged = new LinkedHashMap<>();
+        for (Object[] row : pushed) {
+            merged.put((UUID) row[0], new Item((UUID) row[0], (LocalDateTime) row[1], null));
+        }
+        for (Recipe recipe : pulled) {
+            merged.put(recipe.getId(), new Item(recipe.getId(), recipe.getCreatedAt(), recipe));
+        }
+        List<Item> items = new ArrayList<>(merged.values());
+        items.sort(NEWEST_FIRST);
+
+        List<Item> page = items.subList(Math.min(offset, items.size()), Math.min(offset + size, items.size()));
+
+        // Load the pushed recipes of the page in one query; ones deleted since they were pushed are skipped
+        List<UUID> pushedIds = new ArrayList<>();
+        for (Item item : page) {
+            if (item.recipe == null) {
+                pushedIds.add(item.recipeId);
+            }
+        }
+        Map<UUID, Recipe> loaded = new HashMap<>();
+        for (Recipe recipe : recipeRepository.findAllById(pushedIds)) {
+            loaded.put(recipe.getId(), recipe);
+        }
+        for (Item item : page) {
+            Recipe recipe = item.recipe != null ? item.recipe : loaded.get(item.recipeId);
+            if (recipe != null && recipe.getStatus() == Recipe.RecipeStatus.PUBLISHED) {
+                recipes.add(recipe);
+            }
+        }
+
+        return items.size() > offset + size;
+    }
+
+    private long count(UUID followerId, List<UUID> followedChefIds, LocalDateTime fromDate, LocalDateTime toDate) {
+        long total = timelineRepository.countEntries(followerId,
+                fromDate != null ? fromDate : EARLIEST,
+                toDate != null ? toDate : LATEST);
+
+        List<UUID> pulledChefIds = pulledChefIds(followedChefIds);
+        if (!pulledChefIds.isEmpty()) {
+            total += ((Page<Recipe>) recipeListingService.findPublished(null, pulledChefIds, fromDate, toDate,
+                    PageRequest.of(0, 1), true)).getTotalElements();
+        }
+        return total;
+    }
+
+    // Followed chefs whose recipes are read at request time instead of being fanned out
+    private List<UUID> pulledChefIds(List<UUID> followedChefIds) {
+        if (followedChefIds.isEmpty()) {
+            return List.of();
+        }
+        return chefRepository.findIdsWithMoreFollowersThan(followedChefIds, fanoutMaxFollowers);
+    }
+
+    private boolean isPulled(UUID chefId) {
+        return !pulledChefIds(List.of(chefId)).isEmpty();
+    }
+
+    private static final class Item {
+        final UUID recipeId;
+        final LocalDateTime createdAt;
+        // Set for pulled recipes, which are already loaded
+        final Recipe recipe;
+
+        Item(UUID recipeId, LocalDateTime createdAt, Recipe recipe) {
+            this.recipeId = recipeId;
+            this.createdAt = createdAt;
+            this.recipe = recipe;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.recipes;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.repositories.ChefRepository;
+import com.recipes.repositories.RecipeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sends public listing requests with many requests in flight against the embedded Tomcat and
+// reports throughput and latency percentiles. Run once per mode and compare:
+//   mvn test -Dtest=RequestThreadingBenchmark -Dapp.threads.virtual.enabled=false
+//   mvn test -Dtest=RequestThreadingBenchmark -Dapp.threads.virtual.enabled=true   (Java 21+)
+// Not part of the regular test run.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.show-sql=false")
+public class RequestThreadingBenchmark {
+
+    private static final int RECIPES = 200;
+    private static final int CONCURRENCY = 1_000;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int REQUESTS = 50_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${app.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private ChefRepository chefRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Test
+    public void measureListingThroughputUnderConcurrency() throws Exception {
+        Chef author = chefRepository.save(new Chef("benchchef", "Bench Chef", "bench@example.com", "password123"));
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < RECIPES; i++) {
+            Recipe recipe = new Recipe("Bench recipe " + i, author);
+            recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
+            recipe.setIngredients(List.of("flour", "water", "salt"));
+            recipe.setSteps(List.of("Mix", "Bake"));
+            recipes.add(recipe);
+        }
+        recipeRepository.saveAll(recipes);
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        run(client, WARMUP_REQUESTS);
+
+        long started = System.nanoTime();
+        List<Long> latencies = run(client, REQUESTS);
+        long elapsed = System.nanoTime() - started;
+
+        Collections.sort(latencies);
+        System.out.printf("%s threads, %d in flight: %8.0f requests/s   p50 %6.2f ms   p99 %6.2f ms   max %6.2f ms%n",
+                virtualThreads ? "virtual" : "platform", CONCURRENCY,
+                REQUESTS / (elapsed / 1e9),
+                percentile(latencies, 0.50) / 1e6,
+                percentile(latencies, 0.99) / 1e6,
+                latencies.get(latencies.size() - 1) / 1e6);
+    }
+
+    // Keeps CONCURRENCY requests in flight until all are answered; returns each request's latency in ns
+    private List<Long> run(HttpClient client, int requests) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        List<CompletableFuture<?>> responses = new ArrayList<>(requests);
+
+        for (int i = 0; i < requests; i++) {
+            // Spread the requests over several pages
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                    "http://localhost:" + port + "/api/public/recipes?page_size=10&page=" + (i % 20))).build();
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies.add(System.nanoTime() - sent);
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+        }
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertEquals(0, failures.get());
+        return latencies;
+    }
+
+    private static long percentile(List<Long> sorted, double fraction) {
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.round(fraction * (sorted.size() - 1))));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.recipes;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class VirtualThreadConfigTest {
+
+    private final VirtualThreadConfig config = new VirtualThreadConfig();
+
+    @AfterEach
+    public void tearDown() {
+        config.stop();
+    }
+
+    @Test
+    public void testPlatformThreadsByDefault() {
+        // Given
+        ProtocolHandler protocolHandler = Mockito.mock(ProtocolHandler.class);
+        config.start();
+
+        // When
+        config.virtualThreadProtocolHandlerCustomizer().customize(protocolHandler);
+
+        // Then
+        assertNull(config.executor);
+        verify(protocolHandler, never()).setExecutor(any(Executor.class));
+    }
+
+    @Test
+    public void testRequestsRunOnVirtualThreadsWhenAvailable() throws Exception {
+        // Given
+        ProtocolHandler protocolHandler = Mockito.mock(ProtocolHandler.class);
+        config.enabled = true;
+        config.start();
+
+        // When
+        config.virtualThreadProtocolHandlerCustomizer().customize(protocolHandler);
+
+        // Then
+        if (Runtime.version().feature() < 21) {
+            assertNull(config.executor);
+            verify(protocolHandler, never()).setExecutor(any(Executor.class));
+            return;
+        }
+        verify(protocolHandler).setExecutor(config.executor);
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, config.executor).get();
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+}
\ No newline at end of file
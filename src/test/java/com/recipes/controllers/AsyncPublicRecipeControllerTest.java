@@ -0,0 +1,153 @@
+package com.recipes.controllers;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.repositories.ChefRepository;
+import com.recipes.repositories.RecipeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AsyncPublicRecipeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AsyncPublicRecipeController asyncController;
+
+    @Autowired
+    private ChefRepository chefRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @AfterEach
+    public void tearDown() {
+        recipeRepository.deleteAll();
+        chefRepository.deleteAll();
+    }
+
+    @Test
+    public void testListingIsServedAsynchronously() throws Exception {
+        // Given
+        Chef author = chefRepository.save(new Chef("asyncchef", "Async Chef", "async@example.com", "password123"));
+        Recipe recipe = new Recipe("Slow Cooked Beans", author);
+        recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
+        recipe.setIngredients(List.of("beans"));
+        recipe.setSteps(List.of("Simmer"));
+        recipeRepository.save(recipe);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/public/async/recipes")
+                .param("page_size", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.content[0].title").value("Slow Cooked Beans"))
+                .andExpect(jsonPath("$.content[0].author.handle").value("asyncchef"));
+    }
+
+    @Test
+    public void testInvalidParametersAreRejected() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/public/async/recipes")
+                .param("with_total", "sometimes"))
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testConditionalRequestIsAnsweredOnTheServletThreadAfterParameterChecks() throws Exception {
+        // Given
+        MvcResult first = mockMvc.perform(get("/api/public/async/recipes")).andReturn();
+        String etag = mockMvc.perform(asyncDispatch(first)).andReturn().getResponse().getHeader("ETag");
+
+        // When
+        MvcResult notModified = mockMvc.perform(get("/api/public/async/recipes")
+                .header("If-None-Match", etag))
+                .andReturn();
+        MvcResult invalid = mockMvc.perform(get("/api/public/async/recipes")
+                .header("If-None-Match", etag)
+                .param("with_total", "sometimes"))
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(notModified))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(asyncDispatch(invalid))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testRejectedListingIsServiceUnavailable() throws Exception {
+        // Given
+        asyncController.stop();
+
+        try {
+            // When
+            MvcResult result = mockMvc.perform(get("/api/public/async/recipes"))
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            asyncController.start();
+        }
+    }
+
+    @Test
+    public void testTimedOutListingIsCancelled() throws Exception {
+        // Given
+        asyncController.stop();
+        asyncController.threads = 1;
+        asyncController.timeoutMs = 100;
+        asyncController.start();
+        CountDownLatch release = new CountDownLatch(1);
+        asyncController.executor.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        try {
+            // When
+            MvcResult result = mockMvc.perform(get("/api/public/async/recipes"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isServiceUnavailable());
+            assertEquals(0, asyncController.queued());
+        } finally {
+            release.countDown();
+            asyncController.stop();
+            asyncController.threads = 16;
+            asyncController.timeoutMs = 10000;
+            asyncController.start();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.recipes.controllers;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.repositories.ChefRepository;
+import com.recipes.repositories.RecipeRepository;
+import com.recipes.services.RecipeSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Drives the servlet listing (/api/public/recipes) and the asynchronous one (/api/public/async/recipes)
+// with the same mix of page, filter and search queries and many requests in flight, against a small
+// Tomcat thread pool, and reports throughput, latency percentiles and rejected requests per stack.
+// Not part of the regular test run; execute with: mvn test -Dtest=PublicListingStacksBenchmark
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "server.tomcat.threads.max=32"
+})
+public class PublicListingStacksBenchmark {
+
+    private static final int RECIPES = 2_000;
+    private static final int CONCURRENCY = 2_000;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int REQUESTS = 40_000;
+
+    private static final String[] WORDS = {"tomato", "basil", "garlic", "lemon", "rice", "chicken", "ginger", "mint"};
+
+    private static final String[] QUERIES = {
+        "page_size=10",
+        "page_size=20&page=3",
+        "page_size=10&with_total=false",
+        "page_size=10&q=garlic",
+        "page_size=10&q=lemon%20rice",
+        "page_size=10&chef_handle=benchchef&with_total=estimate",
+        "page_size=10&published_from=2000-01-01T00:00:00"
+    };
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ChefRepository chefRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeSearchIndex searchIndex;
+
+    @Test
+    public void compareServletAndAsyncListings() throws Exception {
+        Chef author = chefRepository.save(new Chef("benchchef", "Bench Chef", "bench@example.com", "password123"));
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < RECIPES; i++) {
+            Recipe recipe = new Recipe(WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length], author);
+            recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
+            recipe.setIngredients(List.of(WORDS[(i + 3) % WORDS.length], "salt"));
+            recipe.setSteps(List.of("Mix", "Cook"));
+            recipes.add(recipe);
+        }
+        recipeRepository.saveAll(recipes);
+        searchIndex.rebuild();
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        for (String stack : List.of("/api/public/recipes", "/api/public/async/recipes")) {
+            run(client, stack, WARMUP_REQUESTS);
+
+            AtomicInteger rejected = new AtomicInteger();
+            long started = System.nanoTime();
+            List<Long> latencies = run(client, stack, REQUESTS, rejected);
+            long elapsed = System.nanoTime() - started;
+
+            Collections.sort(latencies);
+            System.out.printf("%-27s %8.0f requests/s   p50 %7.2f ms   p99 %7.2f ms   503s %d%n",
+                    stack, REQUESTS / (elapsed / 1e9),
+                    percentile(latencies, 0.50) / 1e6,
+                    percentile(latencies, 0.99) / 1e6,
+                    rejected.get());
+        }
+    }
+
+    private List<Long> run(HttpClient client, String stack, int requests) throws Exception {
+        return run(client, stack, requests, new AtomicInteger());
+    }
+
+    // Keeps CONCURRENCY requests in flight until all are answered; returns each request's latency in ns
+    private List<Long> run(HttpClient client, String stack, int requests, AtomicInteger rejected) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        List<CompletableFuture<?>> responses = new ArrayList<>(requests);
+
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                    "http://localhost:" + port + stack + "?" + QUERIES[i % QUERIES.length])).build();
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies.add(System.nanoTime() - sent);
+                        if (error != null) {
+                            failures.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        } else if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+        }
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertEquals(0, failures.get());
+        return latencies;
+    }
+
+    private static long percentile(List<Long> sorted, double fraction) {
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.round(fraction * (sorted.size() - 1))));
+    }
+}
\ No newline at end of file
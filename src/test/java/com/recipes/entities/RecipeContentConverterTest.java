@@ -0,0 +1,52 @@
+package com.recipes.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeContentConverterTest {
+
+    private final RecipeContentConverter converter = new RecipeContentConverter();
+
+    @Test
+    public void testRoundTrip() {
+        // Given
+        RecipeContent content = new RecipeContent(List.of("flour", "water"), List.of("Mix", "Bake"),
+                List.of("bread"), List.of("http://example.com/bread.jpg"));
+
+        // When
+        String json = converter.convertToDatabaseColumn(content);
+
+        // Then
+        assertEquals("{\"i\":[\"flour\",\"water\"],\"s\":[\"Mix\",\"Bake\"],\"l\":[\"bread\"],\"u\":[\"http://example.com/bread.jpg\"]}", json);
+        assertEquals(content, converter.convertToEntityAttribute(json));
+    }
+
+    @Test
+    public void testEmptyListsAreOmitted() {
+        assertEquals("{}", converter.convertToDatabaseColumn(RecipeContent.EMPTY));
+        assertEquals("{\"s\":[\"Mix\"]}", converter.convertToDatabaseColumn(RecipeContent.EMPTY.withSteps(List.of("Mix"))));
+    }
+
+    @Test
+    public void testNullColumnReadsAsEmptyContent() {
+        assertEquals(RecipeContent.EMPTY, converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    public void testRecipeSettersReplaceContent() {
+        // Given
+        Recipe recipe = new Recipe();
+        RecipeContent before = recipe.getContent();
+
+        // When
+        recipe.setIngredients(List.of("flour"));
+
+        // Then
+        assertNotSame(before, recipe.getContent());
+        assertEquals(List.of("flour"), recipe.getIngredients());
+        assertEquals(List.of(), before.getIngredients());
+    }
+}
\ No newline at end of file
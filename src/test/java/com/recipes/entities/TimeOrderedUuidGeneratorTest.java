@@ -0,0 +1,51 @@
+package com.recipes.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    public void testIdsAreVersion7WithCurrentTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = TimeOrderedUuidGenerator.nextId();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = TimeOrderedUuidGenerator.timestampOf(id);
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    public void testIdsIncreaseWithinTheSameMillisecond() {
+        // Given
+        UUID previous = TimeOrderedUuidGenerator.nextId();
+
+        // When / Then: far more ids than fit in one millisecond's worth of time
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = TimeOrderedUuidGenerator.nextId();
+            assertTrue(next.compareTo(previous) > 0);
+            assertTrue(next.toString().compareTo(previous.toString()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    public void testGeneratorIgnoresSessionAndEntity() {
+        // Given
+        Chef chef = new Chef("testchef", "Test Chef", "test@example.com", "password123");
+
+        // When
+        Object id = new TimeOrderedUuidGenerator().generate(null, chef, null, null);
+
+        // Then
+        assertEquals(7, ((UUID) id).version());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.recipes.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Bulk insert throughput and table/index size with random (v4) vs time-ordered (v7) UUID keys,
+// on plain H2 and on H2 in PostgreSQL mode with a PostgreSQL-style schema.
+// Not part of the regular test run; execute with: mvn test -Dtest=UuidKeyBenchmark
+public class UuidKeyBenchmark {
+
+    private static final int ROWS = 500_000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    @Test
+    public void compareRandomAndTimeOrderedKeys() throws Exception {
+        run("H2", "jdbc:h2:mem:uuid_h2;DB_CLOSE_DELAY=-1",
+                "CREATE TABLE bench (id UUID PRIMARY KEY, title VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        run("H2 (PostgreSQL mode)", "jdbc:h2:mem:uuid_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "CREATE TABLE bench (id uuid NOT NULL, title varchar(255) NOT NULL, created_at timestamp(6) NOT NULL, " +
+                "CONSTRAINT bench_pkey PRIMARY KEY (id))");
+    }
+
+    private void run(String database, String url, String ddl) throws Exception {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.setAutoCommit(false);
+            Result v4 = insert(connection, ddl, UUID::randomUUID);
+            Result v7 = insert(connection, ddl, TimeOrderedUuidGenerator::nextId);
+
+            System.out.printf("%-22s v4: %8.0f rows/s %6d KB   v7: %8.0f rows/s %6d KB%n",
+                    database, v4.rowsPerSecond, v4.kilobytes, v7.rowsPerSecond, v7.kilobytes);
+            assertTrue(v4.rowsPerSecond > 0 && v7.rowsPerSecond > 0);
+        }
+    }
+
+    private Result insert(Connection connection, String ddl, Supplier<UUID> ids) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench");
+            statement.execute(ddl);
+        }
+        connection.commit();
+
+        long started = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bench (id, title, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "Recipe " + i);
+                insert.addBatch();
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        // Pages used by the table and its primary-key index
+        long kilobytes = -1;
+        try (Statement statement = connection.createStatement();
+             ResultSet size = statement.executeQuery("CALL DISK_SPACE_USED('bench')")) {
+            if (size.next()) {
+                kilobytes = size.getLong(1) / 1024;
+            }
+        } catch (SQLException e) {
+            // Not available for this mode; only the throughput is reported
+        }
+        return new Result(ROWS / seconds, kilobytes);
+    }
+
+    private static final class Result {
+        final double rowsPerSecond;
+        final long kilobytes;
+
+        Result(double rowsPerSecond, long kilobytes) {
+            this.rowsPerSecond = rowsPerSecond;
+            this.kilobytes = kilobytes;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.recipes.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class RecipeEventTest {
+
+    // The same JSON is asserted by the worker's RecipeEventTest, so both copies of the class must
+    // write and read it identically
+    static final String WIRE_FORMAT = "{\"v\":1,\"id\":\"00000000-0000-0000-0000-000000000001\"," +
+            "\"a\":\"00000000-0000-0000-0000-000000000002\",\"r\":42,\"c\":[\"title\",\"steps\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testEventSerializesToCompactJson() throws Exception {
+        // Given
+        UUID recipeId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID authorId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        RecipeEvent event = new RecipeEvent(recipeId, authorId, 42L, List.of(RecipeEvent.TITLE));
+
+        // When
+        String json = objectMapper.writeValueAsString(event);
+
+        // Then
+        assertEquals("{\"v\":1,\"id\":\"" + recipeId + "\",\"a\":\"" + authorId + "\",\"r\":42,\"c\":[\"title\"]}", json);
+    }
+
+    @Test
+    public void testEventMatchesTheWorkerWireFormat() throws Exception {
+        // Given
+        RecipeEvent event = new RecipeEvent(UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                UUID.fromString("00000000-0000-0000-0000-000000000002"), 42L, List.of(RecipeEvent.TITLE, RecipeEvent.STEPS));
+
+        // When
+        String json = objectMapper.writeValueAsString(event);
+        RecipeEvent read = objectMapper.readValue(WIRE_FORMAT, RecipeEvent.class);
+
+        // Then
+        assertEquals(WIRE_FORMAT, json);
+        assertEquals(event.toString(), read.toString());
+    }
+
+    @Test
+    public void testWorkerCopyIsIdentical() throws Exception {
+        // Given
+        Path apiCopy = Path.of("src/main/java/com/recipes/events/RecipeEvent.java");
+        Path workerCopy = Path.of("worker/src/main/java/com/recipes/events/RecipeEvent.java");
+        assumeTrue(Files.exists(workerCopy), "worker sources are not checked out");
+
+        // When / Then
+        assertEquals(Files.readString(apiCopy), Files.readString(workerCopy));
+    }
+
+    @Test
+    public void testEmptyChangedFieldsAreOmittedAndRoundTrip() throws Exception {
+        // Given
+        RecipeEvent event = new RecipeEvent(UUID.randomUUID(), UUID.randomUUID(), 7L, new ArrayList<>());
+
+        // When
+        String json = objectMapper.writeValueAsString(event);
+        RecipeEvent read = objectMapper.readValue(json, RecipeEvent.class);
+
+        // Then
+        assertFalse(json.contains("\"c\""));
+        assertEquals(event.getRecipeId(), read.getRecipeId());
+        assertEquals(event.getAuthorId(), read.getAuthorId());
+        assertEquals(7L, read.getRevision());
+    }
+}
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.recipes.repositories;
 
 import com.recipes.entities.Chef;
+import com.recipes.payload.response.ChefResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -102,4 +106,33 @@ public class ChefRepositoryTest {
         // Then
         assertFalse(exists);
     }
+
+    @Test
+    public void testFollowersAndFollowingKeysetPages() {
+        // Given
+        Chef chef = new Chef("chef", "Chef", "chef@example.com", "password123");
+        Chef carol = new Chef("carol", "Carol", "carol@example.com", "password123");
+        Chef alice = new Chef("alice", "Alice", "alice@example.com", "password123");
+        Chef bob = new Chef("bob", "Bob", "bob@example.com", "password123");
+        chef.getFollowers().add(carol);
+        chef.getFollowers().add(alice);
+        chef.getFollowers().add(bob);
+        entityManager.persist(carol);
+        entityManager.persist(alice);
+        entityManager.persist(bob);
+        entityManager.persistAndFlush(chef);
+
+        // When
+        List<ChefResponse> firstPage = chefRepository.findFollowers(chef.getId(), PageRequest.of(0, 2));
+        List<ChefResponse> nextPage = chefRepository.findFollowersAfter(chef.getId(), "bob", PageRequest.of(0, 2));
+        List<ChefResponse> following = chefRepository.findFollowing(alice.getId(), PageRequest.of(0, 2));
+        List<ChefResponse> allFollowers = chefRepository.findFollowers(chef.getId(), Pageable.unpaged());
+
+        // Then
+        assertEquals(List.of("alice", "bob"), firstPage.stream().map(ChefResponse::getHandle).toList());
+        assertEquals(List.of("carol"), nextPage.stream().map(ChefResponse::getHandle).toList());
+        assertEquals(List.of("chef"), following.stream().map(ChefResponse::getHandle).toList());
+        assertEquals(List.of("alice", "bob", "carol"), allFollowers.stream().map(ChefResponse::getHandle).toList());
+        assertEquals(List.of(chef.getId()), chefRepository.findFollowingIds(alice.getId()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.recipes.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JdbcUuidsTest {
+
+    @Test
+    public void testBinaryColumnValueIsReadAsUuid() {
+        // Given
+        UUID id = UUID.randomUUID();
+        byte[] binary = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+
+        // When
+        UUID read = JdbcUuids.toUuid(binary);
+
+        // Then
+        assertEquals(id, read);
+    }
+
+    @Test
+    public void testNativeAndTextColumnValuesAreReadAsUuid() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When / Then
+        assertEquals(id, JdbcUuids.toUuid(id));
+        assertEquals(id, JdbcUuids.toUuid(id.toString()));
+        assertNull(JdbcUuids.toUuid(null));
+    }
+}
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -79,14 +80,88 @@ public class RecipeRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // When
-        Page<Recipe> chocolateRecipes = recipeRepository.findByStatusAndKeyword(
-            Recipe.RecipeStatus.PUBLISHED, "chocolate", pageable);
+        Page<Recipe> chocolateRecipes = recipeRepository.findAll(
+            RecipeListingFilter.withStatus(Recipe.RecipeStatus.PUBLISHED).keyword("chocolate"), pageable);
 
         // Then
         assertEquals(1, chocolateRecipes.getTotalElements());
         assertEquals("Chocolate Cake", chocolateRecipes.getContent().get(0).getTitle());
     }
 
+    @Test
+    public void testKeywordMatchesOnlyIngredientAndStepText() {
+        // Given
+        Chef author = new Chef("testchef", "Test Chef", "test@example.com", "password123");
+        entityManager.persistAndFlush(author);
+
+        Recipe cake = new Recipe("Cake", author);
+        cake.setIngredients(List.of("flour", "6\" pan"));
+        cake.setSteps(List.of("Bake"));
+        cake.setLabels(List.of("dessert"));
+        cake.setImageUrls(List.of("http://example.com/cake.jpg"));
+        cake.setStatus(Recipe.RecipeStatus.PUBLISHED);
+        entityManager.persistAndFlush(cake);
+
+        // When
+        long jsonKey = countPublished("i");
+        long jsonSyntax = countPublished("\":");
+        long imageUrl = countPublished("http");
+        long label = countPublished("dessert");
+        long escaped = countPublished("6\" pan");
+
+        // Then
+        assertEquals(0, jsonKey);
+        assertEquals(0, jsonSyntax);
+        assertEquals(0, imageUrl);
+        assertEquals(0, label);
+        assertEquals(1, escaped);
+    }
+
+    @Test
+    public void testKeywordMatchesPrefixesOfAllTermsInAnyOrder() {
+        // Given
+        Chef author = new Chef("testchef", "Test Chef", "test@example.com", "password123");
+        entityManager.persistAndFlush(author);
+
+        Recipe cake = new Recipe("Chocolate Cake", author);
+        cake.setIngredients(List.of("flour", "dark chocolate"));
+        cake.setStatus(Recipe.RecipeStatus.PUBLISHED);
+        entityManager.persistAndFlush(cake);
+
+        // When
+        long reordered = countPublished("flour dark");
+        long prefixes = countPublished("choc fl");
+        long insideTerm = countPublished("late");
+        long missingTerm = countPublished("chocolate soup");
+
+        // Then
+        assertEquals(1, reordered);
+        assertEquals(1, prefixes);
+        assertEquals(0, insideTerm);
+        assertEquals(0, missingTerm);
+    }
+
+    @Test
+    public void testRevisionIncreasesWithEveryUpdate() {
+        // Given
+        Chef author = new Chef("testchef", "Test Chef", "test@example.com", "password123");
+        entityManager.persistAndFlush(author);
+        Recipe recipe = new Recipe("Bread", author);
+        entityManager.persistAndFlush(recipe);
+        long created = recipe.getRevision();
+
+        // When
+        recipe.setTitle("Rye Bread");
+        entityManager.flush();
+        long firstUpdate = recipe.getRevision();
+        recipe.setSteps(List.of("Knead"));
+        entityManager.flush();
+
+        // Then
+        assertEquals(created + 1, firstUpdate);
+        assertEquals(created + 2, recipe.getRevision());
+    }
+
     @Test
     public void testFindByStatusAndAuthorId() {
         // Given
@@ -107,8 +182,8 @@ public class RecipeRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // When
-        Page<Recipe> author1Recipes = recipeRepository.findByStatusAndAuthorId(
-            Recipe.RecipeStatus.PUBLISHED, author1.getId(), pageable);
+        Page<Recipe> author1Recipes = recipeRepository.findAll(
+            RecipeListingFilter.withStatus(Recipe.RecipeStatus.PUBLISHED).authors(List.of(author1.getId())), pageable);
 
         // Then
         assertEquals(1, author1Recipes.getTotalElements());
@@ -143,11 +218,49 @@ public class RecipeRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // When
-        Page<Recipe> recipes = recipeRepository.findByStatusAndCreatedAtBetween(
-            Recipe.RecipeStatus.PUBLISHED, fromDate, toDate, pageable);
+        Page<Recipe> recipes = recipeRepository.findAll(
+            RecipeListingFilter.withStatus(Recipe.RecipeStatus.PUBLISHED).createdBetween(fromDate, toDate), pageable);
 
         // Then
         assertEquals(1, recipes.getTotalElements());
         assertEquals("Recipe 2", recipes.getContent().get(0).getTitle());
     }
+
+    @Test
+    public void testFindByStatusBeforeCursor() {
+        // Given
+        Chef author = new Chef("testchef", "Test Chef", "test@example.com", "password123");
+        entityManager.persistAndFlush(author);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Recipe recipe = new Recipe("Recipe " + i, author);
+            recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
+            entityManager.persistAndFlush(recipe);
+            recipe.setCreatedAt(now.minusHours(i));
+            entityManager.persistAndFlush(recipe);
+            recipes.add(recipe);
+        }
+
+        // When
+        Pageable pageable = PageRequest.of(0, 2, RecipeListingFilter.NEWEST_FIRST);
+        Slice<Recipe> firstPage = recipeRepository.findSlice(RecipeListingFilter.withStatus(Recipe.RecipeStatus.PUBLISHED)
+            .before(now.plusHours(1), recipes.get(0).getId()), pageable);
+        Recipe lastOfFirstPage = firstPage.getContent().get(1);
+        Slice<Recipe> secondPage = recipeRepository.findSlice(RecipeListingFilter.withStatus(Recipe.RecipeStatus.PUBLISHED)
+            .before(lastOfFirstPage.getCreatedAt(), lastOfFirstPage.getId()), pageable);
+
+        // Then
+        assertTrue(firstPage.hasNext());
+        assertEquals("Recipe 0", firstPage.getContent().get(0).getTitle());
+        assertEquals("Recipe 1", lastOfFirstPage.getTitle());
+        assertEquals(2, secondPage.getNumberOfElements());
+        assertEquals("Recipe 2", secondPage.getContent().get(0).getTitle());
+        assertEquals("Recipe 3", secondPage.getContent().get(1).getTitle());
+    }
+
+    private long countPublished(String keyword) {
+        return recipeRepository.count(RecipeListingFilter.withStatus(Recipe.RecipeStatus.PUBLISHED).keyword(keyword));
+    }
 }
\ No newline at end of file
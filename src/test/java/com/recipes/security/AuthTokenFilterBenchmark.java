@@ -0,0 +1,106 @@
+package com.recipes.security;
+
+import com.recipes.entities.Chef;
+import com.recipes.repositories.ChefRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs AuthTokenFilter with the principal loaded from the database (uncached and cached) and built
+// from token claims, reporting time and SQL statements per request.
+// Not part of the regular test run; execute with: mvn test -Dtest=AuthTokenFilterBenchmark
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class AuthTokenFilterBenchmark {
+
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+
+    @Autowired
+    private AuthTokenFilter authTokenFilter;
+
+    @Autowired
+    private JwtAuthenticationCache authenticationCache;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private ChefRepository chefRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    public void tearDown() {
+        authTokenFilter.principalSource = "database";
+        authenticationCache.ttlMs = 300000;
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void compareDatabaseAndClaimsPrincipals() throws Exception {
+        Chef chef = chefRepository.save(new Chef("benchchef", "Bench Chef", "bench@example.com", "password123"));
+        UserDetailsImpl principal = UserDetailsImpl.build(chef);
+        String jwt = jwtUtils.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // A zero TTL keeps every token out of the cache
+        authenticationCache.ttlMs = 0;
+        run("database", jwt, statistics);
+
+        authenticationCache.ttlMs = 300000;
+        run("database+cache", jwt, statistics);
+
+        authTokenFilter.principalSource = "claims";
+        long claimsStatements = run("claims", jwt, statistics);
+
+        assertEquals(0, claimsStatements);
+    }
+
+    private long run(String mode, String jwt, Statistics statistics) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            authenticate(jwt);
+        }
+
+        statistics.clear();
+        long started = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            Authentication authentication = authenticate(jwt);
+            assertNotNull(authentication);
+        }
+        long elapsed = System.nanoTime() - started;
+        long statements = statistics.getPrepareStatementCount();
+
+        System.out.printf("%-15s %8.2f us/request, %d SQL statements for %d requests%n",
+                mode, elapsed / 1e3 / REQUESTS, statements, REQUESTS);
+        return statements;
+    }
+
+    private Authentication authenticate(String jwt) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/followed-recipes");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        authTokenFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.recipes.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1);
+
+    @AfterEach
+    public void tearDown() {
+        encoder.stop();
+    }
+
+    @Test
+    public void testEncodeAndMatchOnPool() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        // When
+        String encoded = encoder.encode("password123");
+
+        // Then
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertEquals(1, registry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, registry.get("auth.password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    public void testFullQueueIsRejectedAtOnce() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Occupy the only thread and the only queue slot
+        encoder.executor.submit(() -> {
+            running.countDown();
+            release.await();
+            return null;
+        });
+        running.await();
+        encoder.executor.submit(() -> null);
+
+        try {
+            // When & Then
+            assertThrows(BoundedPasswordEncoder.RejectedException.class, () -> encoder.encode("password123"));
+            assertEquals(1.0, registry.get("auth.password.rejected").counter().count());
+            assertEquals(1.0, registry.get("auth.password.queue").gauge().value());
+        } finally {
+            release.countDown();
+        }
+    }
+}
\ No newline at end of file
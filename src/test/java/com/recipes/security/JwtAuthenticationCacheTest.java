@@ -0,0 +1,74 @@
+package com.recipes.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtAuthenticationCacheTest {
+
+    private JwtAuthenticationCache authenticationCache;
+
+    @BeforeEach
+    public void setUp() {
+        authenticationCache = new JwtAuthenticationCache();
+    }
+
+    @Test
+    public void testCachedPrincipalIsReturnedUntilTokenExpires() {
+        // Given
+        UserDetailsImpl principal = principal(UUID.randomUUID());
+        authenticationCache.put("valid.token", principal, new Date(System.currentTimeMillis() + 60000));
+        authenticationCache.put("expired.token", principal, new Date(System.currentTimeMillis() - 1000));
+
+        // When / Then
+        assertSame(principal, authenticationCache.get("valid.token"));
+        assertNull(authenticationCache.get("expired.token"));
+        assertNull(authenticationCache.get("unknown.token"));
+    }
+
+    @Test
+    public void testInvalidateChefDropsOnlyThatChef() {
+        // Given
+        UUID chefId = UUID.randomUUID();
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+        authenticationCache.put("first.token", principal(chefId), expiration);
+        authenticationCache.put("second.token", principal(chefId), expiration);
+        authenticationCache.put("other.token", principal(UUID.randomUUID()), expiration);
+
+        // When
+        authenticationCache.invalidateChef(chefId);
+
+        // Then
+        assertNull(authenticationCache.get("first.token"));
+        assertNull(authenticationCache.get("second.token"));
+        assertNotNull(authenticationCache.get("other.token"));
+    }
+
+    @Test
+    public void testCacheStaysBounded() {
+        // Given
+        authenticationCache.maxEntries = 2;
+        Date expiration = new Date(System.currentTimeMillis() + 60000);
+
+        // When
+        authenticationCache.put("first.token", principal(UUID.randomUUID()), new Date(System.currentTimeMillis() + 1000));
+        authenticationCache.put("second.token", principal(UUID.randomUUID()), expiration);
+        authenticationCache.put("third.token", principal(UUID.randomUUID()), expiration);
+
+        // Then: the entry closest to expiry made room
+        assertEquals(2, authenticationCache.size());
+        assertNull(authenticationCache.get("first.token"));
+        assertNotNull(authenticationCache.get("third.token"));
+    }
+
+    private UserDetailsImpl principal(UUID id) {
+        return new UserDetailsImpl(id, "testchef", "test@example.com", "password123",
+                List.of(new SimpleGrantedAuthority("ROLE_CHEF")));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.recipes.security;
+
+import com.recipes.repositories.ChefRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenVersionRegistryTest {
+
+    private TokenVersionRegistry registry;
+
+    private final UUID chefId = UUID.randomUUID();
+
+    @BeforeEach
+    public void setUp() {
+        registry = new TokenVersionRegistry();
+        registry.chefRepository = Mockito.mock(ChefRepository.class);
+        registry.authenticationCache = Mockito.mock(JwtAuthenticationCache.class);
+        when(registry.chefRepository.findRevokedTokenVersions()).thenReturn(List.of());
+        registry.load();
+    }
+
+    @Test
+    public void testRevocationOnAnotherInstanceIsSeenAfterRefresh() {
+        // Given
+        assertTrue(registry.isCurrent(chefId, 0));
+        List<Object[]> revoked = List.<Object[]>of(new Object[] {chefId, 1});
+        when(registry.chefRepository.findRevokedTokenVersions()).thenReturn(revoked);
+
+        // When
+        registry.refresh();
+
+        // Then
+        assertFalse(registry.isCurrent(chefId, 0));
+        assertTrue(registry.isCurrent(chefId, 1));
+        verify(registry.authenticationCache).invalidateChef(chefId);
+    }
+
+    @Test
+    public void testOnlyOlderVersionsAreRevoked() {
+        // Given
+        registry.update(chefId, 2);
+
+        // When / Then
+        assertTrue(registry.isRevoked(chefId, 1));
+        assertFalse(registry.isRevoked(chefId, 2));
+        // Issued after a revocation this instance has not refreshed yet
+        assertFalse(registry.isRevoked(chefId, 3));
+        assertFalse(registry.isRevoked(UUID.randomUUID(), 0));
+        registry.remove(chefId);
+        assertTrue(registry.isRevoked(chefId, 2));
+    }
+
+    @Test
+    public void testRefreshNeverGoesBack() {
+        // Given
+        registry.update(chefId, 2);
+        List<Object[]> stale = List.<Object[]>of(new Object[] {chefId, 1});
+        when(registry.chefRepository.findRevokedTokenVersions()).thenReturn(stale);
+
+        // When
+        registry.refresh();
+
+        // Then
+        assertTrue(registry.isCurrent(chefId, 2));
+        verify(registry.authenticationCache, never()).invalidateChef(chefId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.recipes.services;
+
+import com.recipes.entities.Chef;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Times follow/unfollow on a chef with a small and with a very large follower set; with
+// join-table writes both take about the same time.
+// Not part of the regular test run; execute with: mvn test -Dtest=FollowBenchmark
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({FollowService.class, FollowGraph.class, TimelineService.class, RecipeListingService.class, RecipeCountEstimator.class, SecondLevelCache.class})
+@TestPropertySource(properties = "spring.jpa.show-sql=false")
+public class FollowBenchmark {
+
+    private static final int FOLLOWERS = 100_000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int ROUNDS = 200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FollowService followService;
+
+    @Test
+    public void compareFollowOnSmallAndLargeChef() {
+        Chef smallChef = new Chef("smallchef", "Small Chef", "small@example.com", "password123");
+        Chef largeChef = new Chef("largechef", "Large Chef", "large@example.com", "password123");
+        entityManager.persist(smallChef);
+        entityManager.persistAndFlush(largeChef);
+        insertFollowers(largeChef.getId());
+
+        List<UUID> readers = insertChefs("reader", ROUNDS);
+
+        double small = timeFollows(smallChef.getId(), readers);
+        double large = timeFollows(largeChef.getId(), readers);
+
+        System.out.printf("follow+unfollow: %8.3f ms on a chef with 0 followers, %8.3f ms with %d followers%n",
+                small, large, FOLLOWERS);
+
+        // A repeated follow is reported, not duplicated
+        assertTrue(followService.follow(readers.get(0), largeChef.getId()));
+        assertFalse(followService.follow(readers.get(0), largeChef.getId()));
+    }
+
+    private double timeFollows(UUID chefId, List<UUID> readers) {
+        long started = System.nanoTime();
+        for (UUID reader : readers) {
+            assertTrue(followService.follow(reader, chefId));
+            assertTrue(followService.unfollow(reader, chefId));
+        }
+        return (System.nanoTime() - started) / 1e6 / readers.size();
+    }
+
+    private void insertFollowers(UUID chefId) {
+        List<UUID> followers = insertChefs("follower", FOLLOWERS);
+        List<Object[]> edges = new ArrayList<>();
+        for (UUID follower : followers) {
+            edges.add(new Object[] {chefId, follower});
+            if (edges.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate("INSERT INTO chef_followers (chef_id, follower_id) VALUES (?, ?)", edges);
+                edges.clear();
+            }
+        }
+        if (!edges.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO chef_followers (chef_id, follower_id) VALUES (?, ?)", edges);
+        }
+    }
+
+    private List<UUID> insertChefs(String prefix, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<UUID> ids = new ArrayList<>();
+        List<Object[]> chefs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            chefs.add(new Object[] {id, prefix + i, prefix + " " + i, prefix + i + "@example.com", "password123", false, 0, now, now});
+            if (chefs.size() == INSERT_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO chefs (id, handle, name, email, password, verified, token_version, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", chefs);
+                chefs.clear();
+            }
+        }
+        return ids;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.recipes.services;
+
+import com.recipes.repositories.ChefRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class FollowGraphTest {
+
+    private FollowGraph followGraph;
+
+    private UUID chef;
+    private UUID follower;
+    private UUID otherFollower;
+
+    @BeforeEach
+    public void setUp() {
+        chef = UUID.randomUUID();
+        follower = UUID.randomUUID();
+        otherFollower = UUID.randomUUID();
+
+        // Given a chef_followers table with one edge (rows are chefId, followerId)
+        followGraph = new FollowGraph();
+        followGraph.chefRepository = Mockito.mock(ChefRepository.class);
+        when(followGraph.chefRepository.findFollowEdges(any())).thenReturn(List.<Object[]>of(new Object[] {chef, follower}));
+        followGraph.rebuild();
+    }
+
+    @Test
+    public void testRebuildLoadsEdges() {
+        assertTrue(followGraph.isReady());
+        assertEquals(List.of(chef), followGraph.getFollowingIds(follower));
+        assertEquals(List.of(), followGraph.getFollowingIds(chef));
+    }
+
+    @Test
+    public void testFollowAndUnfollow() {
+        // When
+        followGraph.follow(otherFollower, chef);
+        followGraph.follow(otherFollower, chef);
+        followGraph.unfollow(follower, chef);
+
+        // Then
+        assertEquals(List.of(chef), followGraph.getFollowingIds(otherFollower));
+        assertEquals(List.of(), followGraph.getFollowingIds(follower));
+    }
+
+    @Test
+    public void testManyFollowedChefsStaySortedAndUnique() {
+        // Given
+        Set<UUID> followed = new HashSet<>();
+        followed.add(chef);
+        for (int i = 0; i < 1000; i++) {
+            UUID id = UUID.randomUUID();
+            followed.add(id);
+            followGraph.follow(follower, id);
+            followGraph.follow(follower, id);
+        }
+
+        // When
+        List<UUID> loaded = followGraph.getFollowingIds(follower);
+
+        // Then
+        assertEquals(followed.size(), loaded.size());
+        assertEquals(followed, new HashSet<>(loaded));
+    }
+
+    @Test
+    public void testRefreshPicksUpFollowsFromOtherInstances() {
+        // Given another instance added one edge and removed the loaded one
+        when(followGraph.chefRepository.findFollowEdges(any())).thenReturn(List.<Object[]>of(new Object[] {chef, otherFollower}));
+
+        // When
+        followGraph.scheduledRefresh();
+
+        // Then
+        assertEquals(List.of(chef), followGraph.getFollowingIds(otherFollower));
+        assertEquals(List.of(), followGraph.getFollowingIds(follower));
+    }
+
+    @Test
+    public void testUnknownChefsHaveNoEdges() {
+        UUID stranger = UUID.randomUUID();
+        assertEquals(List.of(), followGraph.getFollowingIds(stranger));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.recipes.services;
+
+import com.recipes.entities.Chef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({FollowService.class, FollowGraph.class, TimelineService.class, RecipeListingService.class, RecipeCountEstimator.class, SecondLevelCache.class})
+public class FollowServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FollowService followService;
+
+    private Chef chef;
+    private Chef reader;
+
+    @BeforeEach
+    public void setUp() {
+        chef = new Chef("chef", "Chef", "chef@example.com", "password123");
+        reader = new Chef("reader", "Reader", "reader@example.com", "password123");
+        entityManager.persist(chef);
+        entityManager.persistAndFlush(reader);
+    }
+
+    @Test
+    public void testFollowIsIdempotentAndUpdatesCounters() {
+        // When
+        boolean first = followService.follow(reader.getId(), chef.getId());
+        boolean second = followService.follow(reader.getId(), chef.getId());
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        entityManager.clear();
+        assertEquals(1, entityManager.find(Chef.class, chef.getId()).getFollowerCount());
+        assertEquals(1, entityManager.find(Chef.class, reader.getId()).getFollowingCount());
+    }
+
+    @Test
+    public void testUnfollowIsIdempotentAndUpdatesCounters() {
+        // Given
+        followService.follow(reader.getId(), chef.getId());
+
+        // When
+        boolean first = followService.unfollow(reader.getId(), chef.getId());
+        boolean second = followService.unfollow(reader.getId(), chef.getId());
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        entityManager.clear();
+        assertEquals(0, entityManager.find(Chef.class, chef.getId()).getFollowerCount());
+        assertEquals(0, entityManager.find(Chef.class, reader.getId()).getFollowingCount());
+    }
+
+    @Test
+    public void testEntitySaveDoesNotOverwriteCounters() {
+        // Given
+        followService.follow(reader.getId(), chef.getId());
+
+        // When: a stale copy of the chef is saved
+        chef.setName("Renamed Chef");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        Chef reloaded = entityManager.find(Chef.class, chef.getId());
+        assertEquals("Renamed Chef", reloaded.getName());
+        assertEquals(1, reloaded.getFollowerCount());
+    }
+}
\ No newline at end of file
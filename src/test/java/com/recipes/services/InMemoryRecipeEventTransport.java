@@ -0,0 +1,42 @@
+package com.recipes.services;
+
+import com.recipes.entities.OutboxEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// In-process stand-in for the broker: keeps published events in memory and can be told to fail
+public class InMemoryRecipeEventTransport implements RecipeEventTransport {
+
+    private final List<OutboxEvent> published = new ArrayList<>();
+
+    private boolean failing = false;
+
+    // Batches holding an event with this routing key are rejected, as the broker does with a message it cannot take
+    private String rejectedRoutingKey;
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        if (failing) {
+            throw new IllegalStateException("Broker unavailable");
+        }
+        for (OutboxEvent event : events) {
+            if (event.getRoutingKey().equals(rejectedRoutingKey)) {
+                throw new IllegalStateException("Message rejected");
+            }
+        }
+        published.addAll(events);
+    }
+
+    public synchronized List<OutboxEvent> getPublished() {
+        return new ArrayList<>(published);
+    }
+
+    public synchronized void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public synchronized void setRejectedRoutingKey(String rejectedRoutingKey) {
+        this.rejectedRoutingKey = rejectedRoutingKey;
+    }
+}
\ No newline at end of file
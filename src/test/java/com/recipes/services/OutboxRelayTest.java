@@ -0,0 +1,155 @@
+package com.recipes.services;
+
+import com.recipes.entities.OutboxEvent;
+import com.recipes.repositories.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RecipeEventOutbox.class, OutboxRelay.class, InMemoryRecipeEventTransport.class})
+public class OutboxRelayTest {
+
+    @Autowired
+    private RecipeEventOutbox recipeEventOutbox;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryRecipeEventTransport transport;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    public void setUp() {
+        transport.setFailing(false);
+        transport.setRejectedRoutingKey(null);
+        outboxRelay.batchSize = 2;
+        outboxRelay.maxAttempts = 20;
+        // Failed events are due again right away
+        outboxRelay.retryBackoffMs = 0;
+    }
+
+    @Test
+    public void testRelayPublishesInOrderAndEmptiesOutbox() {
+        // Given
+        recipeEventOutbox.record("recipe.created", Map.of("title", "Soup"));
+        recipeEventOutbox.record("recipe.published", Map.of("title", "Soup"));
+        recipeEventOutbox.record("recipe.deleted", "some-id");
+
+        // When
+        int published = outboxRelay.relay();
+
+        // Then
+        assertEquals(3, published);
+        List<String> routingKeys = transport.getPublished().stream()
+                .map(OutboxEvent::getRoutingKey)
+                .collect(Collectors.toList());
+        assertEquals(List.of("recipe.created", "recipe.published", "recipe.deleted"), routingKeys);
+        assertEquals("{\"title\":\"Soup\"}", transport.getPublished().get(0).getPayload());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void testFailedBatchStaysInOutbox() {
+        // Given
+        recipeEventOutbox.record("recipe.created", Map.of("title", "Soup"));
+        transport.setFailing(true);
+
+        // When
+        int published = outboxRelay.relay();
+
+        // Then
+        assertEquals(0, published);
+        assertEquals(1, outboxEventRepository.count());
+
+        // And it is published once the broker is back
+        transport.setFailing(false);
+        assertEquals(1, outboxRelay.relay());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    public void testFailedEventIsRetriedLaterWithBackoff() {
+        // Given
+        outboxRelay.retryBackoffMs = 60000;
+        recipeEventOutbox.record("recipe.created", Map.of("title", "Soup"));
+        transport.setFailing(true);
+        outboxRelay.relay();
+
+        // When
+        transport.setFailing(false);
+        int published = outboxRelay.relay();
+
+        // Then
+        assertEquals(0, published);
+        OutboxEvent event = outboxEventRepository.findAll().get(0);
+        assertEquals(1, event.getAttempts());
+        assertNotNull(event.getNextAttemptAt());
+    }
+
+    @Test
+    public void testOnlyTheFailingEventOfABatchIsRetriedLater() {
+        // Given
+        outboxRelay.batchSize = 3;
+        outboxRelay.retryBackoffMs = 60000;
+        recipeEventOutbox.record("recipe.created", Map.of("title", "Soup"));
+        recipeEventOutbox.record("recipe.rejected", Map.of("title", "Soup"));
+        recipeEventOutbox.record("recipe.published", Map.of("title", "Soup"));
+        transport.setRejectedRoutingKey("recipe.rejected");
+
+        // When
+        int firstRelay = outboxRelay.relay();
+        Map<String, Integer> attempts = outboxEventRepository.findAll().stream()
+                .collect(Collectors.toMap(OutboxEvent::getRoutingKey, OutboxEvent::getAttempts));
+        int secondRelay = outboxRelay.relay();
+
+        // Then
+        assertEquals(1, firstRelay);
+        assertEquals(Map.of("recipe.rejected", 1, "recipe.published", 0), attempts);
+        assertEquals(1, secondRelay);
+        List<String> routingKeys = transport.getPublished().stream()
+                .map(OutboxEvent::getRoutingKey)
+                .collect(Collectors.toList());
+        assertEquals(List.of("recipe.created", "recipe.published"), routingKeys);
+        assertEquals(1, outboxEventRepository.count());
+    }
+
+    @Test
+    public void testEventIsDeadLetteredAfterMaxAttempts() {
+        // Given
+        outboxRelay.maxAttempts = 2;
+        recipeEventOutbox.record("recipe.created", Map.of("title", "Soup"));
+        transport.setFailing(true);
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        // When
+        transport.setFailing(false);
+        recipeEventOutbox.record("recipe.published", Map.of("title", "Stew"));
+        int published = outboxRelay.relay();
+
+        // Then
+        assertEquals(1, published);
+        assertEquals("recipe.published", transport.getPublished().get(0).getRoutingKey());
+        List<OutboxEvent> remaining = outboxEventRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertTrue(remaining.get(0).isDeadLettered());
+        assertEquals(2, remaining.get(0).getAttempts());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.recipes.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PublicRecipeResponseCacheTest {
+
+    private static final List<Object> KEY = List.of("soup", 0, 10);
+
+    private PublicRecipeResponseCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new PublicRecipeResponseCache();
+        cache.listingVersion = new RecipeListingVersion();
+    }
+
+    @Test
+    public void testCachedBodyIsServedWithoutLoading() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(KEY, () -> body("first", loads));
+
+        // When
+        byte[] cached = cache.get(KEY, () -> body("second", loads));
+
+        // Then
+        assertEquals("first", new String(cached, StandardCharsets.UTF_8));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testExpiredAndOutdatedEntriesAreReloaded() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(KEY, () -> body("first", loads));
+
+        // When
+        cache.listingVersion.changed();
+        byte[] afterWrite = cache.get(KEY, () -> body("second", loads));
+        cache.ttlMs = -1;
+        byte[] afterExpiry = cache.get(KEY, () -> body("third", loads));
+
+        // Then
+        assertEquals("second", new String(afterWrite, StandardCharsets.UTF_8));
+        assertEquals("third", new String(afterExpiry, StandardCharsets.UTF_8));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testLoadRacingAWriteIsNotStored() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(KEY, () -> {
+            cache.listingVersion.changed();
+            return body("stale", loads);
+        });
+        byte[] next = cache.get(KEY, () -> body("fresh", loads));
+
+        // Then
+        assertEquals("fresh", new String(next, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNullBodyIsNotCached() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        byte[] first = cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get(KEY, () -> body("ok", loads));
+
+        // Then
+        assertNull(first);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<byte[]>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get(KEY, () -> {
+            loaderStarted.countDown();
+            awaitQuietly(release);
+            return body("shared", loads);
+        })));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> cache.get(KEY, () -> body("duplicate", loads))));
+        }
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        for (Future<byte[]> result : results) {
+            assertEquals("shared", new String(result.get(5, TimeUnit.SECONDS), StandardCharsets.UTF_8));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdownNow();
+    }
+
+    private static byte[] body(String text, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
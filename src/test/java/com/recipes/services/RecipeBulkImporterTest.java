@@ -0,0 +1,107 @@
+package com.recipes.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.entities.Chef;
+import com.recipes.entities.OutboxEvent;
+import com.recipes.entities.Recipe;
+import com.recipes.payload.request.RecipeRequest;
+import com.recipes.repositories.OutboxEventRepository;
+import com.recipes.repositories.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RecipeBulkImporter.class, RecipeEventOutbox.class})
+public class RecipeBulkImporterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RecipeBulkImporter recipeBulkImporter;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Chef author;
+
+    @BeforeEach
+    public void setUp() {
+        author = new Chef("bulkchef", "Bulk Chef", "bulk@example.com", "password123");
+        entityManager.persistAndFlush(author);
+        recipeBulkImporter.chunkSize = 50;
+    }
+
+    @Test
+    public void testImportCreatesDraftsAndOneOutboxRowPerChunk() throws Exception {
+        // Given
+        List<RecipeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            requests.add(recipeRequest("Imported recipe " + i));
+        }
+
+        // When
+        List<UUID> ids = recipeBulkImporter.importRecipes(author.getId(), requests);
+
+        // Then
+        assertEquals(120, ids.size());
+        assertEquals(120, recipeRepository.count());
+        Recipe first = recipeRepository.findById(ids.get(0)).orElseThrow();
+        assertEquals("Imported recipe 0", first.getTitle());
+        assertEquals(Recipe.RecipeStatus.DRAFT, first.getStatus());
+        assertEquals(List.of("flour", "water"), first.getIngredients());
+
+        List<OutboxEvent> events = outboxEventRepository.findOldest(PageRequest.of(0, 10));
+        assertEquals(3, events.size());
+        assertTrue(events.stream().allMatch(OutboxEvent::isBatch));
+        assertEquals(50, objectMapper.readTree(events.get(0).getPayload()).size());
+        assertEquals(20, objectMapper.readTree(events.get(2).getPayload()).size());
+        assertEquals(ids.get(0).toString(), objectMapper.readTree(events.get(0).getPayload()).get(0).get("id").asText());
+    }
+
+    @Test
+    public void testBatchEventIsSplitIntoOneMessagePerRecipe() {
+        // Given
+        recipeBulkImporter.importRecipes(author.getId(), List.of(recipeRequest("One"), recipeRequest("Two")));
+        OutboxEvent event = outboxEventRepository.findOldest(PageRequest.of(0, 1)).get(0);
+        RabbitRecipeEventTransport transport = new RabbitRecipeEventTransport();
+        transport.objectMapper = objectMapper;
+
+        // When
+        List<String> payloads = transport.payloads(event);
+
+        // Then
+        assertEquals(2, payloads.size());
+        assertTrue(payloads.get(0).startsWith("{"));
+    }
+
+    private static RecipeRequest recipeRequest(String title) {
+        RecipeRequest request = new RecipeRequest();
+        request.setTitle(title);
+        request.setIngredients(List.of("flour", "water"));
+        request.setSteps(List.of("Mix", "Bake"));
+        return request;
+    }
+}
\ No newline at end of file
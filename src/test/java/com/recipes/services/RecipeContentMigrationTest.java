@@ -0,0 +1,101 @@
+package com.recipes.services;
+
+import com.recipes.entities.RecipeContent;
+import com.recipes.entities.RecipeContentConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeContentMigrationTest {
+
+    private RecipeContentMigration migration;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        // Given a database with the old collection tables
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:content_migration;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE recipes (id UUID PRIMARY KEY, title VARCHAR(255), summary VARCHAR(1000), content VARCHAR(100000), search_text VARCHAR(100000))");
+        jdbcTemplate.execute("CREATE TABLE recipe_ingredients (recipe_id UUID, ingredient VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE recipe_steps (recipe_id UUID, step VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE recipe_labels (recipe_id UUID, label VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE recipe_images (recipe_id UUID, image_url VARCHAR(255))");
+
+        migration = new RecipeContentMigration();
+        migration.jdbcTemplate = jdbcTemplate;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    public void testListsAreMovedIntoContent() {
+        // Given
+        UUID bread = UUID.randomUUID();
+        UUID water = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO recipes (id, title) VALUES (?, 'Bread')", bread);
+        jdbcTemplate.update("INSERT INTO recipes (id, title) VALUES (?, 'Water')", water);
+        jdbcTemplate.update("INSERT INTO recipe_ingredients VALUES (?, 'flour'), (?, 'water')", bread, bread);
+        jdbcTemplate.update("INSERT INTO recipe_steps VALUES (?, 'Knead'), (?, 'Bake')", bread, bread);
+        jdbcTemplate.update("INSERT INTO recipe_labels VALUES (?, 'bread')", bread);
+        jdbcTemplate.update("INSERT INTO recipe_images VALUES (?, 'http://example.com/bread.jpg')", bread);
+
+        // When
+        int migrated = migration.migrate();
+        int again = migration.migrate();
+
+        // Then
+        assertEquals(2, migrated);
+        assertEquals(0, again);
+        RecipeContent content = content(bread);
+        assertEquals(List.of("flour", "water"), content.getIngredients());
+        assertEquals(List.of("Knead", "Bake"), content.getSteps());
+        assertEquals(List.of("bread"), content.getLabels());
+        assertEquals(List.of("http://example.com/bread.jpg"), content.getImageUrls());
+        assertEquals(RecipeContent.EMPTY, content(water));
+        assertEquals(" bread flour water knead bake", searchText(bread));
+        assertEquals(" water", searchText(water));
+    }
+
+    @Test
+    public void testSearchTextIsFilledFromContent() {
+        // Given
+        UUID soup = UUID.randomUUID();
+        String content = new RecipeContentConverter().convertToDatabaseColumn(
+                new RecipeContent(List.of("leek"), List.of("Simmer"), List.of("soup"), List.of("http://example.com/soup.jpg")));
+        jdbcTemplate.update("INSERT INTO recipes (id, title, summary, content) VALUES (?, 'Soup', 'Green', ?)", soup, content);
+        // Written in the older format, before titles and summaries were included
+        UUID stew = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO recipes (id, title, content, search_text) VALUES (?, 'Stew', ?, 'leek\nSimmer')", stew, content);
+
+        // When
+        int filled = migration.fillSearchText();
+        int again = migration.fillSearchText();
+
+        // Then
+        assertEquals(2, filled);
+        assertEquals(0, again);
+        assertEquals(" soup green leek simmer", searchText(soup));
+        assertEquals(" stew leek simmer", searchText(stew));
+    }
+
+    private String searchText(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT search_text FROM recipes WHERE id = ?", String.class, id);
+    }
+
+    private RecipeContent content(UUID id) {
+        String json = jdbcTemplate.queryForObject("SELECT content FROM recipes WHERE id = ?", String.class, id);
+        assertNotNull(json);
+        return new RecipeContentConverter().convertToEntityAttribute(json);
+    }
+}
\ No newline at end of file
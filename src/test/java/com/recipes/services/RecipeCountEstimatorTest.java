@@ -0,0 +1,80 @@
+package com.recipes.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeCountEstimatorTest {
+
+    private RecipeCountEstimator countEstimator;
+
+    @BeforeEach
+    public void setUp() {
+        countEstimator = new RecipeCountEstimator();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        countEstimator.shutdown();
+    }
+
+    @Test
+    public void testFreshEstimateIsServedWithoutCounting() {
+        // Given
+        AtomicLong counts = new AtomicLong();
+
+        // When
+        long first = countEstimator.estimate("tomato", () -> counts.incrementAndGet() * 10);
+        long second = countEstimator.estimate("tomato", () -> counts.incrementAndGet() * 10);
+
+        // Then
+        assertEquals(10, first);
+        assertEquals(10, second);
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    public void testStaleEstimateIsServedAndRefreshedInBackground() throws InterruptedException {
+        // Given
+        countEstimator.ttlMs = 0;
+        AtomicLong counts = new AtomicLong();
+        countEstimator.estimate("tomato", () -> counts.incrementAndGet() * 10);
+        Thread.sleep(5);
+
+        // When
+        long stale = countEstimator.estimate("tomato", () -> counts.incrementAndGet() * 10);
+        for (int i = 0; i < 100 && counts.get() < 2; i++) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertEquals(10, stale);
+        assertEquals(2, counts.get());
+    }
+
+    @Test
+    public void testOldestEstimateIsEvictedWhenFull() {
+        // Given
+        countEstimator.maxEntries = 1;
+        countEstimator.estimate("tomato", () -> 10);
+
+        // When
+        countEstimator.estimate("basil", () -> 20);
+        long recounted = countEstimator.estimate("tomato", () -> 30);
+
+        // Then
+        assertEquals(30, recounted);
+    }
+
+    @Test
+    public void testTotalModeParsing() {
+        assertEquals(RecipeListingService.TotalMode.NONE, RecipeListingService.TotalMode.parse("false"));
+        assertEquals(RecipeListingService.TotalMode.EXACT, RecipeListingService.TotalMode.parse("EXACT"));
+        assertEquals(RecipeListingService.TotalMode.ESTIMATE, RecipeListingService.TotalMode.parse("estimate"));
+        assertNull(RecipeListingService.TotalMode.parse("maybe"));
+    }
+}
\ No newline at end of file
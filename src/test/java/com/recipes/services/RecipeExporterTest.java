@@ -0,0 +1,122 @@
+package com.recipes.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(RecipeExporter.class)
+public class RecipeExporterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecipeExporter recipeExporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        Chef author = new Chef("exportchef", "Export Chef", "export@example.com", "password123");
+        entityManager.persist(author);
+        for (int i = 0; i < 3; i++) {
+            Recipe recipe = new Recipe("Exported " + i, author);
+            recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
+            recipe.setIngredients(List.of("flour", "water"));
+            recipe.setSteps(List.of("Mix"));
+            entityManager.persist(recipe);
+        }
+        Recipe draft = new Recipe("Draft", author);
+        draft.setIngredients(List.of("salt"));
+        draft.setSteps(List.of("Wait"));
+        entityManager.persist(draft);
+        entityManager.flush();
+
+        // Spread the published recipes over three days, newest written first
+        List<Object[]> updates = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            updates.add(new Object[] {Timestamp.valueOf(BASE.plusDays(2 - i)), "Exported " + i});
+        }
+        jdbcTemplate.batchUpdate("UPDATE recipes SET updated_at = ? WHERE title = ?", updates);
+    }
+
+    @Test
+    public void testExportWritesOnePublishedRecipePerLineOldestFirst() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = recipeExporter.export(null, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, written);
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Exported 2", first.get("title").asText());
+        assertEquals("exportchef", first.get("author").get("handle").asText());
+        assertEquals(2, first.get("ingredients").size());
+        assertEquals("Exported 0", objectMapper.readTree(lines[2]).get("title").asText());
+    }
+
+    @Test
+    public void testUpdatedSinceIsInclusiveWatermark() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = recipeExporter.export(BASE.plusDays(1), out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals("Exported 1", objectMapper.readTree(lines[0]).get("title").asText());
+    }
+
+    @Test
+    public void testConcurrentExportsAreLimited() {
+        // Given
+        recipeExporter.maxConcurrent = 1;
+        recipeExporter.createPermits();
+
+        // When
+        RecipeExporter.Permit first = recipeExporter.tryStart();
+        RecipeExporter.Permit second = recipeExporter.tryStart();
+        first.close();
+        // Closing twice, from the body and the completion callback, releases one permit only
+        first.close();
+        RecipeExporter.Permit afterClose = recipeExporter.tryStart();
+        RecipeExporter.Permit third = recipeExporter.tryStart();
+
+        // Then
+        assertNotNull(first);
+        assertNull(second);
+        assertNotNull(afterClose);
+        assertNull(third);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.recipes.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeListingServiceTest {
+
+    @Test
+    public void testEstimateKeyTellsAuthorListsOfTheSameSizeApart() {
+        // Given
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID carol = UUID.randomUUID();
+
+        // When
+        String aliceAndBob = RecipeListingService.estimateKey("soup", List.of(alice, bob), null, null);
+        String bobAndAlice = RecipeListingService.estimateKey("SOUP", List.of(bob, alice, bob), null, null);
+        String aliceAndCarol = RecipeListingService.estimateKey("soup", List.of(alice, carol), null, null);
+
+        // Then
+        assertEquals(aliceAndBob, bobAndAlice);
+        assertNotEquals(aliceAndBob, aliceAndCarol);
+        assertNotEquals(RecipeListingService.estimateKey(null, null, null, null),
+                RecipeListingService.estimateKey(null, List.of(), null, null));
+    }
+
+    @Test
+    public void testTotalModeIsParsedIndependentlyOfLocale() {
+        // Given
+        Locale original = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+
+        try {
+            // When / Then
+            assertEquals(RecipeListingService.TotalMode.EXACT, RecipeListingService.TotalMode.parse("EXACT"));
+            assertEquals(RecipeListingService.TotalMode.ESTIMATE, RecipeListingService.TotalMode.parse("ESTIMATE"));
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.recipes.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeListingVersionTest {
+
+    @Test
+    public void testEtagIsStableUntilListingsChange() {
+        // Given
+        RecipeListingVersion listingVersion = new RecipeListingVersion();
+        String before = listingVersion.etag();
+
+        // When
+        String unchanged = listingVersion.etag();
+        listingVersion.changedAfterCommit();
+        String changed = listingVersion.etag();
+
+        // Then
+        assertEquals(before, unchanged);
+        assertNotEquals(before, changed);
+        assertTrue(changed.startsWith("\"") && changed.endsWith("\""));
+    }
+
+    @Test
+    public void testEtagPartsSeparateReaders() {
+        // Given
+        RecipeListingVersion listingVersion = new RecipeListingVersion();
+        UUID reader = UUID.randomUUID();
+        UUID chef = UUID.randomUUID();
+        UUID otherChef = UUID.randomUUID();
+
+        // When
+        String following = listingVersion.etag(reader, Set.copyOf(List.of(chef, otherChef)));
+        String sameSetOtherOrder = listingVersion.etag(reader, Set.copyOf(List.of(otherChef, chef)));
+        String followingFewer = listingVersion.etag(reader, Set.of(chef));
+
+        // Then
+        assertEquals(following, sameSetOtherOrder);
+        assertNotEquals(following, followingFewer);
+    }
+}
\ No newline at end of file
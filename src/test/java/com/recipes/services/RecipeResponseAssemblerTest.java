@@ -0,0 +1,150 @@
+package com.recipes.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.payload.response.RecipeResponse;
+import com.recipes.repositories.RecipeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RecipeResponseAssembler.class, ResponseFragmentCache.class})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class RecipeResponseAssemblerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeResponseAssembler recipeResponseAssembler;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Given 30 published recipes by 3 chefs, each with every collection filled
+        for (int c = 0; c < 3; c++) {
+            Chef author = new Chef("chef" + c, "Chef " + c, "chef" + c + "@example.com", "password123");
+            entityManager.persist(author);
+            for (int r = 0; r < 10; r++) {
+                Recipe recipe = new Recipe("Recipe " + c + "-" + r, author);
+                recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
+                recipe.setIngredients(List.of("flour", "water"));
+                recipe.setSteps(List.of("Mix", "Bake"));
+                recipe.setLabels(List.of("bread"));
+                recipe.setImageUrls(List.of("http://example.com/" + c + "-" + r + ".jpg"));
+                entityManager.persist(recipe);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testStatementCountDoesNotGrowWithPageSize() {
+        // When
+        long smallPage = statementsToAssemble(5);
+        long largePage = statementsToAssemble(30);
+
+        // Then: one query for the authors; the collections are part of the recipe rows
+        assertEquals(1, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    public void testResponsesKeepPageOrderAndContent() {
+        // Given
+        List<Recipe> page = recipeRepository.findByStatus(Recipe.RecipeStatus.PUBLISHED,
+                PageRequest.of(0, 10, Sort.by("title"))).getContent();
+
+        // When
+        List<RecipeResponse> responses = recipeResponseAssembler.toResponses(page);
+
+        // Then
+        assertEquals(10, responses.size());
+        for (int i = 0; i < page.size(); i++) {
+            RecipeResponse response = responses.get(i);
+            assertEquals(page.get(i).getId(), response.getId());
+            assertEquals(2, response.getIngredients().size());
+            assertEquals(2, response.getSteps().size());
+            assertEquals(List.of("bread"), response.getLabels());
+            assertEquals(1, response.getImageUrls().size());
+            assertNotNull(response.getAuthor());
+            assertEquals(page.get(i).getAuthor().getId(), response.getAuthor().getId());
+        }
+    }
+
+    @Test
+    public void testFragmentsWriteTheSameJsonAsResponses() throws Exception {
+        // Given
+        List<Recipe> page = recipeRepository.findByStatus(Recipe.RecipeStatus.PUBLISHED,
+                PageRequest.of(0, 10, Sort.by("title"))).getContent();
+
+        // When
+        String fromResponses = objectMapper.writeValueAsString(recipeResponseAssembler.toResponses(page));
+        String firstFragments = objectMapper.writeValueAsString(recipeResponseAssembler.toFragments(page));
+        String cachedFragments = objectMapper.writeValueAsString(recipeResponseAssembler.toFragments(page));
+
+        // Then: field order may differ, the content may not
+        assertEquals(objectMapper.readTree(fromResponses), objectMapper.readTree(firstFragments));
+        assertEquals(firstFragments, cachedFragments);
+    }
+
+    @Test
+    public void testSavedRecipeGetsNewFragment() throws Exception {
+        // Given
+        Recipe recipe = recipeRepository.findByStatus(Recipe.RecipeStatus.PUBLISHED,
+                PageRequest.of(0, 1, Sort.by("title"))).getContent().get(0);
+        recipeResponseAssembler.toFragments(List.of(recipe));
+
+        // When
+        recipe.setTitle("Renamed");
+        recipeRepository.saveAndFlush(recipe);
+        String json = objectMapper.writeValueAsString(recipeResponseAssembler.toFragments(List.of(recipe)));
+
+        // Then
+        assertEquals("Renamed", objectMapper.readTree(json).get(0).get("title").asText());
+    }
+
+    private long statementsToAssemble(int pageSize) {
+        entityManager.clear();
+        List<Recipe> page = recipeRepository.findByStatus(Recipe.RecipeStatus.PUBLISHED,
+                PageRequest.of(0, pageSize)).getContent();
+
+        statistics.clear();
+        List<RecipeResponse> responses = recipeResponseAssembler.toResponses(page);
+        assertEquals(pageSize, responses.size());
+        return statistics.getPrepareStatementCount();
+    }
+}
\ No newline at end of file
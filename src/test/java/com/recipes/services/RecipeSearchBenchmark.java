@@ -0,0 +1,146 @@
+package com.recipes.services;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.entities.RecipeContent;
+import com.recipes.entities.RecipeContentConverter;
+import com.recipes.entities.SearchText;
+import com.recipes.repositories.RecipeListingFilter;
+import com.recipes.repositories.RecipeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Compares the LIKE keyword query with the in-memory search index on synthetic recipes. Both match
+// every query term as a prefix of a recipe term, so they must find the same recipes.
+// Not part of the regular test run; execute with: mvn test -Dtest=RecipeSearchBenchmark
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.show-sql=false")
+public class RecipeSearchBenchmark {
+
+    private static final int RECIPES = 100_000;
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int QUERY_ROUNDS = 20;
+
+    private static final String[] WORDS = {
+        "apple", "basil", "butter", "carrot", "cheese", "chicken", "chili", "cinnamon", "coconut", "cream",
+        "cumin", "egg", "fennel", "garlic", "ginger", "honey", "lemon", "lentil", "lime", "mango",
+        "mint", "mushroom", "mustard", "noodle", "oat", "olive", "onion", "orange", "paprika", "parsley",
+        "pasta", "peanut", "pepper", "pork", "potato", "pumpkin", "rice", "rosemary", "saffron", "salmon",
+        "sesame", "shrimp", "spinach", "sugar", "thyme", "tofu", "tomato", "vanilla", "walnut", "yogurt",
+        "bake", "boil", "braise", "chop", "fold", "fry", "grill", "knead", "roast", "simmer"
+    };
+
+    private static final String[] QUERIES = {"saffron", "grill salmon", "vanil", "tomato basil", "walnut"};
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Test
+    public void compareLikeQueryWithSearchIndex() {
+        Chef author = new Chef("benchchef", "Bench Chef", "bench@example.com", "password123");
+        entityManager.persistAndFlush(author);
+        insertRecipes(author.getId());
+
+        RecipeSearchIndex searchIndex = new RecipeSearchIndex();
+        searchIndex.recipeRepository = recipeRepository;
+        long buildStarted = System.nanoTime();
+        searchIndex.rebuild();
+        System.out.printf("Index build: %d recipes in %d ms%n", RECIPES, (System.nanoTime() - buildStarted) / 1_000_000);
+
+        PageRequest firstPage = PageRequest.of(0, 10, Sort.by("createdAt").descending());
+        for (String query : QUERIES) {
+            long likeNanos = 0;
+            long indexNanos = 0;
+            long likeTotal = 0;
+            long indexTotal = 0;
+
+            for (int round = 0; round < QUERY_ROUNDS; round++) {
+                long started = System.nanoTime();
+                Page<Recipe> page = recipeRepository.findAll(
+                        RecipeListingFilter.withStatus(Recipe.RecipeStatus.PUBLISHED).keyword(query), firstPage);
+                page.getContent().size();
+                likeNanos += System.nanoTime() - started;
+                likeTotal = page.getTotalElements();
+
+                started = System.nanoTime();
+                RecipeSearchIndex.Hits hits = searchIndex.search(query, null, null, null, 0, 10);
+                recipeRepository.findAllById(hits.getIds()).size();
+                indexNanos += System.nanoTime() - started;
+                indexTotal = hits.getTotal();
+
+                entityManager.clear();
+            }
+
+            System.out.printf("q=%-14s LIKE: %8.2f ms/query (%d hits)   index: %8.2f ms/query (%d hits)%n",
+                    query,
+                    likeNanos / 1e6 / QUERY_ROUNDS, likeTotal,
+                    indexNanos / 1e6 / QUERY_ROUNDS, indexTotal);
+
+            assertEquals(likeTotal, indexTotal);
+        }
+    }
+
+    private void insertRecipes(UUID authorId) {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+
+        RecipeContentConverter converter = new RecipeContentConverter();
+        List<Object[]> recipes = new ArrayList<>();
+        for (int i = 0; i < RECIPES; i++) {
+            UUID id = UUID.randomUUID();
+            Timestamp createdAt = Timestamp.valueOf(start.plusMinutes(i * 5L));
+            List<String> ingredients = new ArrayList<>();
+            for (int j = 0; j < 6; j++) {
+                ingredients.add(words(random, 2));
+            }
+            List<String> steps = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                steps.add(words(random, 10));
+            }
+            String content = converter.convertToDatabaseColumn(new RecipeContent(ingredients, steps, null, null));
+            String title = words(random, 3);
+            String summary = words(random, 12);
+            String searchText = SearchText.of(SearchText.fields(title, summary, new RecipeContent(ingredients, steps, null, null)));
+            recipes.add(new Object[] {id, title, summary, content, searchText, "PUBLISHED", authorId, createdAt, createdAt, createdAt});
+
+            if (recipes.size() == INSERT_BATCH_SIZE || i == RECIPES - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO recipes (id, title, summary, content, search_text, status, author_id, created_at, updated_at, published_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", recipes);
+                recipes.clear();
+            }
+        }
+    }
+
+    private static String words(Random random, int count) {
+        String[] picked = new String[count];
+        for (int i = 0; i < count; i++) {
+            picked[i] = WORDS[random.nextInt(WORDS.length)];
+        }
+        return String.join(" ", Arrays.asList(picked));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+package com.recipes.services;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.repositories.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class RecipeSearchIndexTest {
+
+    private RecipeSearchIndex searchIndex;
+
+    private Chef author;
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex = new RecipeSearchIndex();
+        searchIndex.recipeRepository = Mockito.mock(RecipeRepository.class);
+        when(searchIndex.recipeRepository.findSearchDocuments(any(), any())).thenReturn(List.of());
+        searchIndex.rebuild();
+
+        author = new Chef("testchef", "Test Chef", "test@example.com", "password123");
+        author.setId(UUID.randomUUID());
+    }
+
+    @Test
+    public void testSearchMatchesPrefixesOfAllTerms() {
+        // Given
+        Recipe cake = publishedRecipe("Chocolate Cake", List.of("flour", "dark chocolate"), LocalDateTime.now());
+        Recipe soup = publishedRecipe("Vegetable Soup", List.of("carrots", "potatoes"), LocalDateTime.now());
+        searchIndex.index(cake);
+        searchIndex.index(soup);
+
+        // When
+        RecipeSearchIndex.Hits chocolate = searchIndex.search("Choc", null, null, null, 0, 10);
+        RecipeSearchIndex.Hits darkFlour = searchIndex.search("dark flour", null, null, null, 0, 10);
+        RecipeSearchIndex.Hits chocolateSoup = searchIndex.search("chocolate soup", null, null, null, 0, 10);
+
+        // Then
+        assertEquals(List.of(cake.getId()), chocolate.getIds());
+        assertEquals(1, darkFlour.getTotal());
+        assertEquals(0, chocolateSoup.getTotal());
+    }
+
+    @Test
+    public void testSearchOrdersNewestFirstAndPages() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Recipe oldest = publishedRecipe("Bread one", List.of("flour"), now.minusDays(2));
+        Recipe middle = publishedRecipe("Bread two", List.of("flour"), now.minusDays(1));
+        Recipe newest = publishedRecipe("Bread three", List.of("flour"), now);
+        searchIndex.index(middle);
+        searchIndex.index(newest);
+        searchIndex.index(oldest);
+
+        // When
+        RecipeSearchIndex.Hits firstPage = searchIndex.search("bread", null, null, null, 0, 2);
+        RecipeSearchIndex.Hits secondPage = searchIndex.search("bread", null, null, null, 2, 2);
+
+        // Then
+        assertEquals(3, firstPage.getTotal());
+        assertEquals(List.of(newest.getId(), middle.getId()), firstPage.getIds());
+        assertEquals(List.of(oldest.getId()), secondPage.getIds());
+    }
+
+    @Test
+    public void testEqualCreatedAtIsOrderedByIdBytesLikeTheDatabase() {
+        // Given ids whose order differs between UUID.compareTo (signed) and the database (unsigned bytes)
+        LocalDateTime now = LocalDateTime.now();
+        Recipe low = publishedRecipe("Bread low", List.of("flour"), now);
+        low.setId(new UUID(0x7fffffffffffffffL, 1));
+        Recipe high = publishedRecipe("Bread high", List.of("flour"), now);
+        high.setId(new UUID(0x8000000000000000L, 1));
+        searchIndex.index(low);
+        searchIndex.index(high);
+
+        // When
+        RecipeSearchIndex.Hits firstPage = searchIndex.search("bread", null, null, null, 0, 1);
+        RecipeSearchIndex.Hits afterFirst = searchIndex.search("bread", null, null, null,
+                new PageCursor(now, high.getId()), 0, 10);
+
+        // Then
+        assertEquals(List.of(high.getId()), firstPage.getIds());
+        assertEquals(List.of(low.getId()), afterFirst.getIds());
+    }
+
+    @Test
+    public void testSearchAppliesAuthorAndDateFilters() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Chef otherAuthor = new Chef("otherchef", "Other Chef", "other@example.com", "password123");
+        otherAuthor.setId(UUID.randomUUID());
+        Recipe recent = publishedRecipe("Tomato Salad", List.of("tomato"), now);
+        Recipe old = publishedRecipe("Tomato Soup", List.of("tomato"), now.minusDays(10));
+        Recipe other = publishedRecipe("Tomato Pie", List.of("tomato"), now);
+        other.setAuthor(otherAuthor);
+        searchIndex.index(recent);
+        searchIndex.index(old);
+        searchIndex.index(other);
+
+        // When
+        RecipeSearchIndex.Hits byAuthor = searchIndex.search("tomato", List.of(author.getId()), null, null, 0, 10);
+        RecipeSearchIndex.Hits byDate = searchIndex.search("tomato", List.of(author.getId()), now.minusDays(1), null, 0, 10);
+
+        // Then
+        assertEquals(2, byAuthor.getTotal());
+        assertEquals(List.of(recent.getId()), byDate.getIds());
+    }
+
+    @Test
+    public void testUnpublishedAndRemovedRecipesAreNotFound() {
+        // Given
+        Recipe recipe = publishedRecipe("Lemon Tart", List.of("lemon"), LocalDateTime.now());
+        searchIndex.index(recipe);
+        Recipe draft = publishedRecipe("Lemon Curd", List.of("lemon"), LocalDateTime.now());
+        draft.setStatus(Recipe.RecipeStatus.DRAFT);
+        searchIndex.index(draft);
+
+        // When
+        long beforeRemove = searchIndex.search("lemon", null, null, null, 0, 10).getTotal();
+        searchIndex.remove(recipe.getId());
+        long afterRemove = searchIndex.search("lemon", null, null, null, 0, 10).getTotal();
+
+        // Then
+        assertEquals(1, beforeRemove);
+        assertEquals(0, afterRemove);
+    }
+
+    @Test
+    public void testReindexReplacesOldTerms() {
+        // Given
+        Recipe recipe = publishedRecipe("Apple Pie", List.of("apple"), LocalDateTime.now());
+        searchIndex.index(recipe);
+
+        // When
+        recipe.setTitle("Pear Pie");
+        recipe.setIngredients(List.of("pear"));
+        searchIndex.index(recipe);
+
+        // Then
+        assertEquals(0, searchIndex.search("apple", null, null, null, 0, 10).getTotal());
+        assertEquals(1, searchIndex.search("pear", null, null, null, 0, 10).getTotal());
+    }
+
+    @Test
+    public void testEditsReuseDocumentSlots() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Recipe first = publishedRecipe("Rye Bread", List.of("rye"), now.minusDays(2));
+        Recipe second = publishedRecipe("Wheat Bread", List.of("wheat"), now.minusDays(1));
+        searchIndex.index(first);
+        searchIndex.index(second);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            second.setSteps(List.of("Knead " + i));
+            searchIndex.index(second);
+        }
+        searchIndex.remove(first.getId());
+        Recipe third = publishedRecipe("Spelt Bread", List.of("spelt"), now);
+        searchIndex.index(third);
+
+        // Then
+        assertEquals(2, searchIndex.documentSlots());
+        assertEquals(List.of(third.getId(), second.getId()), searchIndex.search("bread", null, null, null, 0, 10).getIds());
+        assertEquals(0, searchIndex.search("rye", null, null, null, 0, 10).getTotal());
+        assertEquals(1, searchIndex.search("knead 99", null, null, null, 0, 10).getTotal());
+    }
+
+    @Test
+    public void testSearchCatchesUpWithWritesFromOtherInstances() {
+        // Given
+        Recipe local = publishedRecipe("Rye Bread", List.of("rye"), LocalDateTime.now().minusDays(1));
+        Recipe remote = publishedRecipe("Spelt Bread", List.of("spelt"), LocalDateTime.now());
+        searchIndex.listingVersion = new RecipeListingVersion();
+        searchIndex.rebuild();
+        searchIndex.index(local);
+        when(searchIndex.recipeRepository.findSearchDocumentsUpdatedSince(any())).thenReturn(List.<Object[]>of(new Object[] {
+                remote.getId(), author.getId(), remote.getCreatedAt(), remote.getTitle(), remote.getSummary(),
+                remote.getContent(), Recipe.RecipeStatus.PUBLISHED }));
+        when(searchIndex.recipeRepository.countByStatus(Recipe.RecipeStatus.PUBLISHED)).thenReturn(2L);
+
+        // When
+        searchIndex.listingVersion.changed();
+        RecipeSearchIndex.Hits bread = searchIndex.search("bread", null, null, null, 0, 10);
+
+        // Then
+        assertEquals(List.of(remote.getId(), local.getId()), bread.getIds());
+    }
+
+    @Test
+    public void testCatchUpDropsRecipesDeletedOnOtherInstances() {
+        // Given
+        Recipe kept = publishedRecipe("Rye Bread", List.of("rye"), LocalDateTime.now().minusDays(1));
+        Recipe deleted = publishedRecipe("Spelt Bread", List.of("spelt"), LocalDateTime.now());
+        searchIndex.listingVersion = new RecipeListingVersion();
+        searchIndex.rebuild();
+        searchIndex.index(kept);
+        searchIndex.index(deleted);
+        when(searchIndex.recipeRepository.findSearchDocumentsUpdatedSince(any())).thenReturn(List.of());
+        when(searchIndex.recipeRepository.countByStatus(Recipe.RecipeStatus.PUBLISHED)).thenReturn(1L);
+        when(searchIndex.recipeRepository.findIdsByStatus(Recipe.RecipeStatus.PUBLISHED)).thenReturn(List.of(kept.getId()));
+
+        // When
+        searchIndex.listingVersion.changed();
+        RecipeSearchIndex.Hits bread = searchIndex.search("bread", null, null, null, 0, 10);
+
+        // Then
+        assertEquals(List.of(kept.getId()), bread.getIds());
+    }
+
+    @Test
+    public void testQueryWithoutTermsCannotBeAnswered() {
+        assertNull(searchIndex.search("%!", null, null, null, 0, 10));
+    }
+
+    private Recipe publishedRecipe(String title, List<String> ingredients, LocalDateTime createdAt) {
+        Recipe recipe = new Recipe(title, author);
+        recipe.setId(UUID.randomUUID());
+        recipe.setIngredients(ingredients);
+        recipe.setSteps(List.of("Mix everything"));
+        recipe.setStatus(Recipe.RecipeStatus.PUBLISHED);
+        recipe.setCreatedAt(createdAt);
+        return recipe;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.recipes.services;
+
+import com.recipes.entities.Chef;
+import com.recipes.repositories.ChefRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Each repository call runs in its own committed transaction, as in the application;
+// cache entries written inside a transaction only become visible to others after commit
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({FollowService.class, FollowGraph.class, TimelineService.class, RecipeListingService.class, RecipeCountEstimator.class, SecondLevelCache.class})
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private ChefRepository chefRepository;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    private Chef chef;
+    private Chef reader;
+
+    @BeforeEach
+    public void setUp() throws InterruptedException {
+        chef = chefRepository.save(new Chef("cachedchef", "Cached Chef", "cached@example.com", "password123"));
+        reader = chefRepository.save(new Chef("cachedreader", "Cached Reader", "reader@example.com", "password123"));
+        entityManagerFactory.getCache().evictAll();
+        // Query results are only trusted when cached after the last change to the table (millisecond timestamps)
+        Thread.sleep(10);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        chefRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    public void testFindByHandleIsServedFromCacheAfterFirstLoad() {
+        // When
+        chefRepository.findByHandle("cachedchef");
+        long queriesAfterFirst = statistics.getPrepareStatementCount();
+        Chef cached = chefRepository.findByHandle("cachedchef").orElseThrow();
+
+        // Then
+        assertEquals("Cached Chef", cached.getName());
+        assertEquals(queriesAfterFirst, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+    }
+
+    @Test
+    public void testCounterUpdateEvictsOnlyTheTouchedChefs() {
+        // Given
+        Chef bystander = chefRepository.save(new Chef("bystander", "Bystander", "bystander@example.com", "password123"));
+        chefRepository.findById(chef.getId());
+        chefRepository.findById(bystander.getId());
+        statistics.clear();
+
+        // When
+        followService.follow(reader.getId(), chef.getId());
+        Chef reloaded = chefRepository.findById(chef.getId()).orElseThrow();
+        chefRepository.findById(bystander.getId());
+
+        // Then
+        assertEquals(1, reloaded.getFollowerCount());
+        assertEquals(1, statistics.getSecondLevelCacheMissCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    public void testEntityUpdateRefreshesCachedChef() {
+        // Given
+        chefRepository.findById(chef.getId());
+
+        // When
+        Chef loaded = chefRepository.findById(chef.getId()).orElseThrow();
+        loaded.setName("Renamed Chef");
+        chefRepository.save(loaded);
+
+        // Then
+        assertEquals("Renamed Chef", chefRepository.findById(chef.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void testFindCurrentByIdReadsPastTheCache() {
+        // Given a cached chef whose row is then changed outside this instance
+        chefRepository.findById(chef.getId());
+        jdbcTemplate.update("UPDATE chefs SET name = 'Renamed Elsewhere' WHERE id = ?", chef.getId());
+
+        // When
+        Chef cached = chefRepository.findById(chef.getId()).orElseThrow();
+        Chef current = chefRepository.findCurrentById(chef.getId()).orElseThrow();
+
+        // Then
+        assertEquals("Cached Chef", cached.getName());
+        assertEquals("Renamed Elsewhere", current.getName());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.recipes.services;
+
+import com.recipes.repositories.ListingVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Without a test transaction, so changes are counted after commit as in the application
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SharedRecipeListingVersionTest {
+
+    @Autowired
+    private ListingVersionRepository listingVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RecipeListingVersion instanceA;
+
+    private RecipeListingVersion instanceB;
+
+    @BeforeEach
+    public void setUp() {
+        // Two API instances sharing one database
+        instanceA = newInstance();
+        instanceB = newInstance();
+    }
+
+    @Test
+    public void testInstancesShareEtags() {
+        assertEquals(instanceA.etag(), instanceB.etag());
+    }
+
+    @Test
+    public void testChangeOnOneInstanceIsSeenByTheOther() {
+        // Given
+        String before = instanceB.etag();
+
+        // When
+        instanceA.changedAfterCommit();
+
+        // Then
+        assertNotEquals(before, instanceB.etag());
+        assertEquals(instanceA.current(), instanceB.current());
+    }
+
+    @Test
+    public void testChangeIsSeenOnlyAfterRefreshInterval() {
+        // Given
+        instanceB.refreshMs = 60000;
+        String before = instanceB.etag();
+
+        // When
+        instanceA.changedAfterCommit();
+
+        // Then
+        assertEquals(before, instanceB.etag());
+    }
+
+    @Test
+    public void testChangeIsCountedOnlyWhenItsTransactionCommits() {
+        // Given
+        long before = instanceB.current();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            instanceA.changedAfterCommit();
+            status.setRollbackOnly();
+        });
+        long afterRollback = instanceB.current();
+        transaction.executeWithoutResult(status -> instanceA.changedAfterCommit());
+
+        // Then
+        assertEquals(before, afterRollback);
+        assertEquals(before + 1, instanceB.current());
+    }
+
+    private RecipeListingVersion newInstance() {
+        RecipeListingVersion listingVersion = new RecipeListingVersion();
+        listingVersion.listingVersionRepository = listingVersionRepository;
+        listingVersion.refreshMs = 0;
+        listingVersion.start();
+        return listingVersion;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.recipes.services;
+
+import com.recipes.entities.Chef;
+import com.recipes.entities.Recipe;
+import com.recipes.repositories.TimelineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TimelineService.class, RecipeListingService.class, RecipeCountEstimator.class})
+@TestPropertySource(properties = {"app.timeline.enabled=true", "app.timeline.fanout-max-followers=1"})
+public class TimelineServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TimelineRepository timelineRepository;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    private Chef reader;
+    private Chef chef;
+    private Chef popularChef;
+    private List<UUID> followedChefIds;
+    private LocalDateTime now;
+
+    @BeforeEach
+    public void setUp() {
+        now = LocalDateTime.now().withNano(0);
+
+        // Given a reader following a chef and a popular chef that is above the fan-out limit
+        reader = new Chef("reader", "Reader", "reader@example.com", "password123");
+        Chef otherReader = new Chef("other", "Other Reader", "other@example.com", "password123");
+        chef = new Chef("chef", "Chef", "chef@example.com", "password123");
+        popularChef = new Chef("popular", "Popular Chef", "popular@example.com", "password123");
+        chef.getFollowers().add(reader);
+        popularChef.getFollowers().add(reader);
+        popularChef.getFollowers().add(otherReader);
+        chef.setFollowerCount(1);
+        popularChef.setFollowerCount(2);
+        entityManager.persist(reader);
+        entityManager.persist(otherReader);
+        entityManager.persist(chef);
+        entityManager.persist(popularChef);
+        followedChefIds = List.of(chef.getId(), popularChef.getId());
+    }
+
+    @Test
+    public void testFollowBackfillsPublishedRecipes() {
+        // Given
+        Recipe published = recipe(chef, "Bread", Recipe.RecipeStatus.PUBLISHED, now.minusHours(1));
+        recipe(chef, "Draft", Recipe.RecipeStatus.DRAFT, now.minusHours(2));
+        recipe(popularChef, "Cake", Recipe.RecipeStatus.PUBLISHED, now.minusHours(3));
+
+        // When
+        timelineService.onFollow(reader.getId(), chef.getId());
+        timelineService.onFollow(reader.getId(), popularChef.getId());
+
+        // Then: only the chef's published recipe is pushed; the popular chef is read at request time
+        List<Object[]> entries = timelineRepository.findEntries(reader.getId(), now.minusDays(1), now.plusDays(1),
+                PageRequest.of(0, 10));
+        assertEquals(1, entries.size());
+        assertEquals(published.getId(), entries.get(0)[0]);
+    }
+
+    @Test
+    public void testFindMergesPushedAndPulledRecipes() {
+        // Given
+        Recipe newest = recipe(popularChef, "Cake", Recipe.RecipeStatus.PUBLISHED, now.minusHours(1));
+        Recipe middle = recipe(chef, "Bread", Recipe.RecipeStatus.PUBLISHED, now.minusHours(2));
+        Recipe oldest = recipe(popularChef, "Pie", Recipe.RecipeStatus.PUBLISHED, now.minusHours(3));
+        timelineService.onFollow(reader.getId(), chef.getId());
+
+        // When
+        Slice<Recipe> firstPage = timelineService.find(reader.getId(), followedChefIds, null, null, pageable(0, 2), true);
+        Slice<Recipe> secondPage = timelineService.find(reader.getId(), followedChefIds, null, null, pageable(1, 2), false);
+        Slice<Recipe> afterCursor = timelineService.findAfter(reader.getId(), followedChefIds, null, null,
+                PageCursor.after(middle), 2);
+
+        // Then
+        assertEquals(List.of(newest.getId(), middle.getId()), ids(firstPage));
+        assertTrue(firstPage.hasNext());
+        assertEquals(3, ((Page<Recipe>) firstPage).getTotalElements());
+        assertEquals(List.of(oldest.getId()), ids(secondPage));
+        assertFalse(secondPage.hasNext());
+        assertEquals(List.of(oldest.getId()), ids(afterCursor));
+    }
+
+    @Test
+    public void testUnfollowRemovesTimelineEntries() {
+        // Given
+        recipe(chef, "Bread", Recipe.RecipeStatus.PUBLISHED, now.minusHours(1));
+        timelineService.onFollow(reader.getId(), chef.getId());
+
+        // When
+        timelineService.onUnfollow(reader.getId(), chef.getId());
+
+        // Then
+        assertEquals(0, timelineRepository.countEntries(reader.getId(), now.minusDays(1), now.plusDays(1)));
+    }
+
+    private Recipe recipe(Chef author, String title, Recipe.RecipeStatus status, LocalDateTime createdAt) {
+        Recipe recipe = new Recipe(title, author);
+        recipe.setStatus(status);
+        entityManager.persist(recipe);
+        recipe.setCreatedAt(createdAt);
+        entityManager.flush();
+        return recipe;
+    }
+
+    private static PageRequest pageable(int page, int size) {
+        return PageRequest.of(page, size, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+    }
+
+    private static List<UUID> ids(Slice<Recipe> slice) {
+        return slice.getContent().stream().map(Recipe::getId).collect(Collectors.toList());
+    }
+}
\ No newline at end of file
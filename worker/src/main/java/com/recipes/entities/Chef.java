@@ -1,157 +0,0 @@
-package com.recipes.entities;
-
-import jakarta.persistence.*;
-import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
-
-@Entity
-@Table(name = "chefs")
-public class Chef {
-    @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private UUID id;
-
-    @Column(unique = true)
-    private String handle;
-
-    private String name;
-
-    @Column(unique = true)
-    private String email;
-
-    private String password;
-
-    private boolean verified = false;
-
-    private LocalDateTime createdAt;
-
-    private LocalDateTime updatedAt;
-
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(
-        name = "chef_followers",
-        joinColumns = @JoinColumn(name = "chef_id"),
-        inverseJoinColumns = @JoinColumn(name = "follower_id")
-    )
-    private Set<Chef> followers = new HashSet<>();
-
-    @ManyToMany(mappedBy = "followers", fetch = FetchType.LAZY)
-    private Set<Chef> following = new HashSet<>();
-
-    @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private Set<Recipe> recipes = new HashSet<>();
-
-    @PrePersist
-    protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
-    }
-
-    @PreUpdate
-    protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
-    }
-
-    // Constructors
-    public Chef() {}
-
-    public Chef(String handle, String name, String email, String password) {
-        this.handle = handle;
-        this.name = name;
-        this.email = email;
-        this.password = password;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
-    }
-
-    // Getters and Setters
-    public UUID getId() {
-        return id;
-    }
-
-    public void setId(UUID id) {
-        this.id = id;
-    }
-
-    public String getHandle() {
-        return handle;
-    }
-
-    public void setHandle(String handle) {
-        this.handle = handle;
-    }
-
-    public String getName() {
-        return name;
-    }
-
-    public void setName(String name) {
-        this.name = name;
-    }
-
-    public String getEmail() {
-        return email;
-    }
-
-    public void setEmail(String email) {
-        this.email = email;
-    }
-
-    public String getPassword() {
-        return password;
-    }
-
-    public void setPassword(String password) {
-        this.password = password;
-    }
-
-    public boolean isVerified() {
-        return verified;
-    }
-
-    public void setVerified(boolean verified) {
-        this.verified = verified;
-    }
-
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
-    }
-
-    public Set<Chef> getFollowers() {
-        return followers;
-    }
-
-    public void setFollowers(Set<Chef> followers) {
-        this.followers = followers;
-    }
-
-    public Set<Chef> getFollowing() {
-        return following;
-    }
-
-    public void setFollowing(Set<Chef> following) {
-        this.following = following;
-    }
-
-    public Set<Recipe> getRecipes() {
-        return recipes;
-    }
-
-    public void setRecipes(Set<Recipe> recipes) {
-        this.recipes = recipes;
-    }
-}
\ No newline at end of file
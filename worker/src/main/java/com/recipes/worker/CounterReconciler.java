@@ -0,0 +1,48 @@
+package com.recipes.worker;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Repairs drift in the chefs counter columns (follower_count, following_count, recipe_count),
+// which the API maintains incrementally. Like TimelineFanout, this needs the worker's datasource
+// to point at the API database. The rows are written past the API's Hibernate second-level cache,
+// which the worker cannot evict; API instances show a repaired counter once their cached chef
+// expires (see the API's hibernate-cache.conf, seconds).
+@Component
+public class CounterReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(CounterReconciler.class);
+
+    private static final String FOLLOWERS = "(SELECT COUNT(*) FROM chef_followers f WHERE f.chef_id = chefs.id)";
+    private static final String FOLLOWING = "(SELECT COUNT(*) FROM chef_followers f WHERE f.follower_id = chefs.id)";
+    private static final String RECIPES = "(SELECT COUNT(*) FROM recipes r WHERE r.author_id = chefs.id AND r.status = 'PUBLISHED')";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${worker.counters.reconcile.enabled:false}")
+    boolean enabled = false;
+
+    @Scheduled(fixedDelayString = "${worker.counters.reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        // Only rows that drifted are written
+        int followers = repair("follower_count", FOLLOWERS);
+        int following = repair("following_count", FOLLOWING);
+        int recipes = repair("recipe_count", RECIPES);
+        if (followers + following + recipes > 0) {
+            logger.warn("Repaired chef counters: {} follower, {} following, {} recipe counts", followers, following, recipes);
+        }
+    }
+
+    private int repair(String column, String actual) {
+        return jdbcTemplate.update("UPDATE chefs SET " + column + " = " + actual + " WHERE " + column + " <> " + actual);
+    }
+}
\ No newline at end of file
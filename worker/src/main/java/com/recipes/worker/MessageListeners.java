@@ -1,43 +1,64 @@
 package com.recipes.worker;
 
+import java.util.List;
+
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
-import com.recipes.entities.Recipe;
+import com.recipes.events.RecipeEvent;
 
 @Component
 public class MessageListeners {
 
+    @Autowired
+    RecipeBatchProcessor batchProcessor;
+
+    @Autowired
+    TimelineFanout timelineFanout;
+
+    // Each listener receives a batch of events (see RabbitMQConfig) and processes it as one unit
+
     @RabbitListener(queues = "${recipe.queue.created}")
-    public void handleRecipeCreated(Recipe recipe) {
-        System.out.println("Processing created recipe: " + recipe.getTitle());
-        // Process the created recipe (e.g., index for search, send notifications, etc.)
-        // This is where you would implement the actual processing logic
-        processRecipe(recipe);
+    public void handleRecipesCreated(List<Message<RecipeEvent>> messages) {
+        batchProcessor.processAll("created", messages, event -> {
+            System.out.println("Processing created recipe: " + event.getRecipeId());
+            // Process the created recipe (e.g., index for search, send notifications, etc.)
+            // This is where you would implement the actual processing logic
+            processRecipe(event);
+        });
     }
 
     @RabbitListener(queues = "${recipe.queue.updated}")
-    public void handleRecipeUpdated(Recipe recipe) {
-        System.out.println("Processing updated recipe: " + recipe.getTitle());
-        // Process the updated recipe
-        processRecipe(recipe);
+    public void handleRecipesUpdated(List<Message<RecipeEvent>> messages) {
+        batchProcessor.processAll("updated", messages, event -> {
+            System.out.println("Processing updated recipe: " + event.getRecipeId() + " " + event.getChangedFields());
+            // Process the updated recipe
+            processRecipe(event);
+        });
     }
 
     @RabbitListener(queues = "${recipe.queue.published}")
-    public void handleRecipePublished(Recipe recipe) {
-        System.out.println("Processing published recipe: " + recipe.getTitle());
-        // Process the published recipe (e.g., send notifications to followers)
-        processRecipe(recipe);
+    public void handleRecipesPublished(List<Message<RecipeEvent>> messages) {
+        batchProcessor.processAll("published", messages, event -> {
+            System.out.println("Processing published recipe: " + event.getRecipeId());
+            // Process the published recipe (e.g., send notifications to followers)
+            timelineFanout.onPublished(event.getRecipeId());
+            processRecipe(event);
+        });
     }
 
     @RabbitListener(queues = "${recipe.queue.deleted}")
-    public void handleRecipeDeleted(String recipeId) {
-        System.out.println("Processing deleted recipe with ID: " + recipeId);
-        // Process the deleted recipe (e.g., remove from search index)
-        // This is where you would implement the actual processing logic
+    public void handleRecipesDeleted(List<Message<RecipeEvent>> messages) {
+        batchProcessor.processAll("deleted", messages, event -> {
+            System.out.println("Processing deleted recipe with ID: " + event.getRecipeId());
+            // Process the deleted recipe (e.g., remove from search index)
+            timelineFanout.onDeleted(event.getRecipeId());
+        });
     }
 
-    private void processRecipe(Recipe recipe) {
+    void processRecipe(RecipeEvent event) {
         // Simulate processing time
         try {
             Thread.sleep(1000);
@@ -50,6 +71,6 @@ public class MessageListeners {
         // - Generating thumbnails for images
         // - Sending notifications to followers
         // - Updating analytics
-        System.out.println("Finished processing recipe: " + recipe.getTitle());
+        System.out.println("Finished processing recipe: " + event.getRecipeId());
     }
 }
\ No newline at end of file
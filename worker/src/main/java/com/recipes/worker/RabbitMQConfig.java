@@ -4,6 +4,7 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -27,6 +28,21 @@ public class RabbitMQConfig {
     @Value("${recipe.queue.deleted}")
     private String deletedQueue;
 
+    @Value("${worker.listener.concurrency:4}")
+    private int concurrency;
+
+    @Value("${worker.listener.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${worker.listener.prefetch:50}")
+    private int prefetch;
+
+    @Value("${worker.listener.batch-size:10}")
+    private int batchSize;
+
+    @Value("${worker.listener.batch-receive-timeout-ms:100}")
+    private long batchReceiveTimeoutMs;
+
     @Bean
     public TopicExchange recipeExchange() {
         return new TopicExchange("recipe.exchange");
@@ -77,6 +93,27 @@ public class RabbitMQConfig {
         return new Jackson2JsonMessageConverter();
     }
 
+    // Consumers per queue scale between concurrency and max-concurrency. Each listener call receives
+    // up to batch-size messages; a partial batch is delivered once no message arrived for the receive
+    // timeout. A batch size of 1 processes messages one at a time. Recipe failures are handled per
+    // message by RecipeBatchProcessor; a batch the listener still rejects (e.g. a body that cannot be
+    // converted) is dropped rather than requeued, as it would fail the same way on every redelivery.
+    @Bean
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, maxConcurrency));
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(batchReceiveTimeoutMs);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
+
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
@@ -0,0 +1,128 @@
+package com.recipes.worker;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import com.recipes.events.RecipeEvent;
+
+// Runs the per-recipe work of a delivered batch in parallel and waits for all of it before the
+// batch is acknowledged. Failures are handled per recipe: a recipe whose work throws is retried up to
+// worker.processing.max-attempts times, then logged, counted and dropped, so one bad event neither
+// holds back the rest of its batch nor has the whole batch redelivered forever. The work runs on virtual threads when the JVM has them (Java 21+); on older JVMs it runs on a
+// fixed pool of worker.processing.threads platform threads.
+@Component
+public class RecipeBatchProcessor {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeBatchProcessor.class);
+
+    @Autowired
+    WorkerMetrics metrics;
+
+    @Value("${worker.processing.virtual-threads:true}")
+    boolean virtualThreads = true;
+
+    @Value("${worker.processing.threads:32}")
+    int threads = 32;
+
+    @Value("${worker.processing.max-attempts:3}")
+    int maxAttempts = 3;
+
+    @Value("${worker.processing.retry-backoff-ms:100}")
+    long retryBackoffMs = 100;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = virtualThreads ? newVirtualThreadExecutor() : null;
+        if (executor == null) {
+            executor = newPlatformThreadExecutor(threads);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    public void processAll(String queue, List<Message<RecipeEvent>> messages, Consumer<RecipeEvent> work) {
+        long started = System.nanoTime();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> results = new ArrayList<>(messages.size());
+        for (Message<RecipeEvent> message : messages) {
+            metrics.recordLag(queue, message.getHeaders().get(AmqpHeaders.TIMESTAMP, Date.class));
+            RecipeEvent event = message.getPayload();
+            results.add(CompletableFuture.runAsync(() -> {
+                if (!process(queue, event, work)) {
+                    failed.incrementAndGet();
+                }
+            }, executor));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+        metrics.recordBatch(queue, messages.size(), failed.get(), System.nanoTime() - started);
+    }
+
+    // Returns false when the work still failed after maxAttempts attempts
+    private boolean process(String queue, RecipeEvent event, Consumer<RecipeEvent> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                work.accept(event);
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("Giving up on {} recipe {} (revision {}) after {} attempts: {}",
+                            queue, event.getRecipeId(), event.getRevision(), attempt, e.getMessage());
+                    return false;
+                }
+            }
+            try {
+                Thread.sleep(retryBackoffMs * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() looked up reflectively, as the build targets Java 17
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            logger.info("Processing recipes on virtual threads");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newPlatformThreadExecutor(int threads) {
+        logger.info("Processing recipes on {} platform threads", threads);
+        AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "recipe-processor-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.recipes.worker;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Pushes published recipes into the chef_timeline rows of the author's followers (fan-out on write).
+// Chefs with more than worker.timeline.fanout-max-followers followers are skipped; the API merges
+// their recipes in at read time. The tables belong to the API, so this needs the worker's
+// datasource to point at the API database.
+@Component
+public class TimelineFanout {
+    private static final Logger logger = LoggerFactory.getLogger(TimelineFanout.class);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${worker.timeline.enabled:false}")
+    boolean enabled = false;
+
+    @Value("${worker.timeline.fanout-max-followers:10000}")
+    long fanoutMaxFollowers = 10000;
+
+    @Value("${worker.timeline.max-entries:800}")
+    int maxEntries = 800;
+
+    public void onPublished(UUID recipeId) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> followers = jdbcTemplate.queryForList(
+                "SELECT c.follower_count FROM chefs c JOIN recipes r ON r.author_id = c.id WHERE r.id = ?",
+                Long.class, recipeId);
+        if (followers.isEmpty() || followers.get(0) > fanoutMaxFollowers) {
+            return;
+        }
+
+        // One set-based insert; redelivered events find the rows already there
+        int inserted = jdbcTemplate.update(
+                "INSERT INTO chef_timeline (follower_id, recipe_id, author_id, created_at) " +
+                "SELECT f.follower_id, r.id, r.author_id, r.created_at FROM recipes r " +
+                "JOIN chef_followers f ON f.chef_id = r.author_id " +
+                "WHERE r.id = ? AND r.status = 'PUBLISHED' " +
+                "AND NOT EXISTS (SELECT 1 FROM chef_timeline t WHERE t.follower_id = f.follower_id AND t.recipe_id = r.id)",
+                recipeId);
+        logger.debug("Recipe {} pushed to {} timelines", recipeId, inserted);
+    }
+
+    public void onDeleted(UUID recipeId) {
+        if (enabled) {
+            jdbcTemplate.update("DELETE FROM chef_timeline WHERE recipe_id = ?", recipeId);
+        }
+    }
+
+    // Drop the oldest entries of timelines that grew past worker.timeline.max-entries
+    @Scheduled(fixedDelayString = "${worker.timeline.trim-interval-ms:60000}")
+    public void trim() {
+        if (!enabled) {
+            return;
+        }
+
+        List<UUID> followerIds = jdbcTemplate.queryForList(
+                "SELECT follower_id FROM chef_timeline GROUP BY follower_id HAVING COUNT(*) > ?",
+                UUID.class, maxEntries);
+        for (UUID followerId : followerIds) {
+            // Everything older than the last entry that still fits goes; entries sharing its
+            // created_at stay, so a timeline can briefly hold a few more than max-entries
+            List<Object> lastKept = jdbcTemplate.queryForList(
+                    "SELECT created_at FROM chef_timeline WHERE follower_id = ? " +
+                    "ORDER BY created_at DESC, recipe_id DESC LIMIT 1 OFFSET ?",
+                    Object.class, followerId, maxEntries - 1);
+            if (!lastKept.isEmpty()) {
+                jdbcTemplate.update("DELETE FROM chef_timeline WHERE follower_id = ? AND created_at < ?",
+                        followerId, lastKept.get(0));
+            }
+        }
+        if (!followerIds.isEmpty()) {
+            logger.info("Trimmed {} timelines to {} entries", followerIds.size(), maxEntries);
+        }
+    }
+}
\ No newline at end of file
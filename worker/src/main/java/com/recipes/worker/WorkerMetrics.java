@@ -0,0 +1,99 @@
+package com.recipes.worker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Consumer metrics for sizing the worker, exposed through /actuator/metrics:
+// - worker.recipes.processed: events processed per queue (its rate is the throughput)
+// - worker.recipes.failed: events given up on after worker.processing.max-attempts
+// - worker.batch.duration / worker.batch.size: time and size of each processed batch
+// - worker.recipes.lag: time from the event being written by the API to its processing
+// - worker.queue.depth: messages waiting in each queue, polled from the broker
+@Component
+public class WorkerMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(WorkerMetrics.class);
+
+    @Autowired
+    MeterRegistry registry;
+
+    @Autowired
+    AmqpAdmin amqpAdmin;
+
+    @Value("${recipe.queue.created}")
+    private String createdQueue;
+
+    @Value("${recipe.queue.updated}")
+    private String updatedQueue;
+
+    @Value("${recipe.queue.published}")
+    private String publishedQueue;
+
+    @Value("${recipe.queue.deleted}")
+    private String deletedQueue;
+
+    private final Map<String, AtomicLong> queueDepths = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerQueueGauges() {
+        for (String queue : List.of(createdQueue, updatedQueue, publishedQueue, deletedQueue)) {
+            AtomicLong depth = queueDepths.computeIfAbsent(queue, q -> new AtomicLong());
+            Gauge.builder("worker.queue.depth", depth, AtomicLong::get)
+                    .tag("queue", queue)
+                    .description("Messages waiting in the queue")
+                    .register(registry);
+        }
+    }
+
+    public void recordBatch(String queue, int size, int failed, long nanos) {
+        registry.counter("worker.recipes.processed", "queue", queue).increment(size - failed);
+        if (failed > 0) {
+            registry.counter("worker.recipes.failed", "queue", queue).increment(failed);
+        }
+        registry.timer("worker.batch.duration", "queue", queue).record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("worker.batch.size").tag("queue", queue).register(registry).record(size);
+    }
+
+    // The API stamps each message with the time its event was written to the outbox
+    public void recordLag(String queue, Date writtenAt) {
+        if (writtenAt != null) {
+            registry.timer("worker.recipes.lag", "queue", queue)
+                    .record(Duration.between(writtenAt.toInstant(), Instant.now()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${worker.metrics.queue-depth-interval-ms:5000}")
+    public void pollQueueDepths() {
+        for (Map.Entry<String, AtomicLong> queue : queueDepths.entrySet()) {
+            try {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue.getKey());
+                if (info != null) {
+                    queue.getValue().set(info.getMessageCount());
+                }
+            } catch (AmqpException e) {
+                logger.debug("Cannot read depth of queue {}: {}", queue.getKey(), e.getMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.recipes.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeEventTest {
+
+    // The same JSON is asserted by the API's RecipeEventTest, so both copies of the class must
+    // write and read it identically
+    static final String WIRE_FORMAT = "{\"v\":1,\"id\":\"00000000-0000-0000-0000-000000000001\"," +
+            "\"a\":\"00000000-0000-0000-0000-000000000002\",\"r\":42,\"c\":[\"title\",\"steps\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testEventMatchesTheApiWireFormat() throws Exception {
+        // Given
+        RecipeEvent event = new RecipeEvent(UUID.fromString("00000000-0000-0000-0000-000000000001"),
+                UUID.fromString("00000000-0000-0000-0000-000000000002"), 42L, List.of(RecipeEvent.TITLE, RecipeEvent.STEPS));
+
+        // When
+        String json = objectMapper.writeValueAsString(event);
+        RecipeEvent read = objectMapper.readValue(WIRE_FORMAT, RecipeEvent.class);
+
+        // Then
+        assertEquals(WIRE_FORMAT, json);
+        assertEquals(event.toString(), read.toString());
+    }
+}
\ No newline at end of file
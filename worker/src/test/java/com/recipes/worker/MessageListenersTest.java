@@ -1,12 +1,15 @@
 package com.recipes.worker;
 
-import com.recipes.entities.Chef;
-import com.recipes.entities.Recipe;
+import com.recipes.events.RecipeEvent;
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -18,25 +21,34 @@ public class MessageListenersTest {
     @Test
     public void testRecipeProcessing() {
         // Given
-        Chef author = new Chef("testchef", "Test Chef", "test@example.com", "password123");
-        Recipe recipe = new Recipe("Test Recipe", author);
-        recipe.setSummary("This is a test recipe");
-        recipe.setIngredients(new ArrayList<>());
-        recipe.setSteps(new ArrayList<>());
-        recipe.setLabels(new ArrayList<>());
-        recipe.setImageUrls(new ArrayList<>());
+        RecipeEvent event = new RecipeEvent(UUID.randomUUID(), UUID.randomUUID(), 1L, List.of(RecipeEvent.TITLE));
 
         // When
         MessageListeners listeners = new MessageListeners();
-        
-        // This is just to ensure the method exists and can be called
-        // In a real test, we would mock the RabbitMQ listener
-        
+
         // Then
         // The test passes if no exception is thrown
-        assertDoesNotThrow(() -> {
-            // We can't directly test the listener methods as they're triggered by RabbitMQ
-            // But we can test the helper methods
-        });
+        assertDoesNotThrow(() -> listeners.processRecipe(event));
+    }
+
+    @Test
+    public void testRecipeEventFromApiPayload() {
+        // Given: the JSON the API writes for an updated recipe
+        UUID recipeId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        String json = "{\"v\":1,\"id\":\"" + recipeId + "\",\"a\":\"" + authorId + "\",\"r\":42,\"c\":[\"title\",\"steps\"]}";
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        Message message = new Message(json.getBytes(StandardCharsets.UTF_8), properties);
+
+        // When
+        RecipeEvent event = (RecipeEvent) new Jackson2JsonMessageConverter().fromMessage(message, RecipeEvent.class);
+
+        // Then
+        assertEquals(RecipeEvent.SCHEMA_VERSION, event.getSchemaVersion());
+        assertEquals(recipeId, event.getRecipeId());
+        assertEquals(authorId, event.getAuthorId());
+        assertEquals(42L, event.getRevision());
+        assertEquals(List.of("title", "steps"), event.getChangedFields());
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.recipes.worker;
+
+import com.recipes.events.RecipeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipeBatchProcessorTest {
+
+    private SimpleMeterRegistry registry;
+
+    private RecipeBatchProcessor batchProcessor;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        WorkerMetrics metrics = new WorkerMetrics();
+        metrics.registry = registry;
+
+        batchProcessor = new RecipeBatchProcessor();
+        batchProcessor.metrics = metrics;
+        batchProcessor.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        batchProcessor.stop();
+    }
+
+    @Test
+    public void testBatchIsProcessedInParallelAndCounted() {
+        // Given
+        List<Message<RecipeEvent>> messages = messages(20);
+        Set<UUID> processed = ConcurrentHashMap.newKeySet();
+
+        // When
+        long started = System.currentTimeMillis();
+        batchProcessor.processAll("published", messages, event -> {
+            sleep(200);
+            processed.add(event.getRecipeId());
+        });
+        long elapsed = System.currentTimeMillis() - started;
+
+        // Then
+        assertEquals(20, processed.size());
+        assertTrue(elapsed < 20 * 200, "recipes of a batch should not run one after another");
+        assertEquals(20, registry.counter("worker.recipes.processed", "queue", "published").count());
+        assertEquals(20, registry.timer("worker.recipes.lag", "queue", "published").count());
+    }
+
+    @Test
+    public void testFailingRecipeIsRetriedThenDroppedWithoutFailingTheBatch() {
+        // Given
+        batchProcessor.retryBackoffMs = 0;
+        List<Message<RecipeEvent>> messages = messages(3);
+        UUID failing = messages.get(1).getPayload().getRecipeId();
+        AtomicInteger failingAttempts = new AtomicInteger();
+        Set<UUID> processed = ConcurrentHashMap.newKeySet();
+
+        // When
+        batchProcessor.processAll("created", messages, event -> {
+            if (event.getRecipeId().equals(failing)) {
+                failingAttempts.incrementAndGet();
+                throw new IllegalStateException("Cannot process recipe");
+            }
+            processed.add(event.getRecipeId());
+        });
+
+        // Then
+        assertEquals(2, processed.size());
+        assertEquals(3, failingAttempts.get());
+        assertEquals(2, registry.counter("worker.recipes.processed", "queue", "created").count());
+        assertEquals(1, registry.counter("worker.recipes.failed", "queue", "created").count());
+    }
+
+    @Test
+    public void testRecipeThatFailsOnceIsRetried() {
+        // Given
+        batchProcessor.retryBackoffMs = 0;
+        List<Message<RecipeEvent>> messages = messages(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        batchProcessor.processAll("updated", messages, event -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("Database unavailable");
+            }
+        });
+
+        // Then
+        assertEquals(2, attempts.get());
+        assertEquals(1, registry.counter("worker.recipes.processed", "queue", "updated").count());
+        assertEquals(0, registry.counter("worker.recipes.failed", "queue", "updated").count());
+    }
+
+    private List<Message<RecipeEvent>> messages(int count) {
+        List<Message<RecipeEvent>> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RecipeEvent event = new RecipeEvent(UUID.randomUUID(), UUID.randomUUID(), i, List.of(RecipeEvent.STATUS));
+            messages.add(MessageBuilder.withPayload(event)
+                    .setHeader(AmqpHeaders.TIMESTAMP, new Date())
+                    .build());
+        }
+        return messages;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file